@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The on-disk formats the address book can be saved in.
+ */
+public enum AddressBookFormat {
+    /** A json snapshot that is kept up to date with an append-only journal of changes. */
+    JSON,
+    /** A versioned binary snapshot with one column per field, which is smaller and faster to load. */
+    BINARY,
+    /** One json file per month plus a manifest, of which only the recent months are loaded at startup. */
+    PARTITIONED
+}
@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * How soon changes to the address book are written to disk after each command.
+ */
+public enum SaveDurability {
+    /** Every command waits for its changes to be written before returning. */
+    SYNC,
+    /** Changes are written in the background, at most once per save interval. */
+    WRITE_BEHIND,
+    /** Changes are only written when the app exits. */
+    ON_EXIT
+}
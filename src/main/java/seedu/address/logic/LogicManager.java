@@ -27,11 +27,14 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    /** The modification count of the address book when it was last handed to storage. */
+    private long savedModificationCount;
 
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedModificationCount = model.getAddressBookModificationCount();
     }
 
     @Override
@@ -42,7 +45,15 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            // commands that only read the address book, such as list, find and sort, leave nothing to save
+            long modificationCount = model.getAddressBookModificationCount();
+            if (modificationCount != savedModificationCount) {
+                storage.requestSaveAddressBook(model.getAddressBook());
+                savedModificationCount = modificationCount;
+            }
+            if (commandResult.isExit()) {
+                storage.flushAddressBook();
+            }
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -2,41 +2,84 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.DescriptionContainsKeywordsPredicate;
+import seedu.address.model.person.Entry;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. In fuzzy mode, keywords also match the start of words, words a typo or two
+ * away and tag names.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String FUZZY_FLAG = "-f";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " mala fish food";
+            + "With " + FUZZY_FLAG + ", also finds partial and misspelt words and tags.\n"
+            + "Parameters: [" + FUZZY_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " mala fish food\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_FLAG + " chick rcie";
+
+    public static final String MESSAGE_BEST_MATCH = "Best match: %1$s";
 
     private final DescriptionContainsKeywordsPredicate predicate;
+    private final boolean isFuzzy;
 
     public FindCommand(DescriptionContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    public FindCommand(DescriptionContainsKeywordsPredicate predicate, boolean isFuzzy) {
         this.predicate = predicate;
+        this.isFuzzy = isFuzzy;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredEntryList(predicate);
+        model.loadAllEntries();
+        if (isFuzzy) {
+            return executeFuzzy(model);
+        }
+        // resolved through the index, so the list is filtered by id instead of by reading every description
+        model.updateFilteredEntryList(model.getDescriptionIndex().matchingAnyWord(predicate.getKeywords()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredEntryList().size()));
     }
 
+    /**
+     * Lists the entries that match the keywords loosely, in the order the list is sorted in, and names the best match.
+     */
+    private CommandResult executeFuzzy(Model model) {
+        long[] rankedIds = model.getFuzzySearchIndex().rankedIdsMatchingAnyWord(predicate.getKeywords());
+        long[] ids = rankedIds.clone();
+        Arrays.sort(ids);
+        model.updateFilteredEntryList(entry -> Arrays.binarySearch(ids, entry.getId()) >= 0);
+
+        String feedback = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredEntryList().size());
+        if (rankedIds.length > 0) {
+            for (Entry entry : model.getFilteredEntryList()) {
+                if (entry.getId() == rankedIds[0]) {
+                    feedback += "\n" + String.format(MESSAGE_BEST_MATCH, entry.getDesc());
+                    break;
+                }
+            }
+        }
+        return new CommandResult(feedback);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && predicate.equals(((FindCommand) other).predicate)
+                && isFuzzy == ((FindCommand) other).isFuzzy); // state check
     }
 }
@@ -28,7 +28,9 @@ public class FindWishCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredWishes(predicate);
+        model.loadAllEntries();
+        // resolved through the index, so the list is filtered by id instead of by reading every description
+        model.updateFilteredWishes(model.getDescriptionIndex().matchingAnyWord(predicate.getKeywords()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredWishes().size()));
     }
@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.query.Query;
+
+/**
+ * Lists all entries in guiltTrip() that match a query of criteria joined with and, or and not.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all entries that match the query and "
+            + "displays them as a list with index numbers.\n"
+            + "Criteria: "
+            + PREFIX_TYPE + "expense|income|wish|autoexpense "
+            + PREFIX_TIME + "FROM..TO (yyyy-MM-dd, either may be left out) "
+            + PREFIX_AMOUNT + "MIN..MAX (either may be left out) "
+            + PREFIX_TAG + "TAG "
+            + PREFIX_DESC + "WORD or WORD\n"
+            + "Criteria next to each other must all match; join them with or, not and brackets otherwise.\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_TYPE + "expense "
+            + PREFIX_TIME + "2019-09-01..2019-09-30 "
+            + "(" + PREFIX_TAG + "food or mala) not " + PREFIX_AMOUNT + "..5";
+
+    private final Query query;
+
+    public QueryCommand(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.loadAllEntries();
+        model.filterEntriesByQuery(query);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredEntryList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QueryCommand // instanceof handles nulls
+                && query.equals(((QueryCommand) other).query)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+}
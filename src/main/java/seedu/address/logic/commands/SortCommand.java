@@ -5,8 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_SEQUENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
 
 import seedu.address.model.Model;
-import seedu.address.model.person.SortSequence;
-import seedu.address.model.person.SortType;
+import seedu.address.model.util.EntryComparator;
 
 /**
  * Sorts the list according to sortType and sortSequence
@@ -18,25 +17,27 @@ public class SortCommand extends Command {
             + "Parameters: "
             + PREFIX_TYPE + "TYPE "
             + PREFIX_SEQUENCE + "SEQUENCE "
+            + "[" + PREFIX_TYPE + "TYPE " + PREFIX_SEQUENCE + "SEQUENCE]... "
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_TYPE + "Time "
+            + PREFIX_SEQUENCE + "Descending "
+            + PREFIX_TYPE + "Amount "
             + PREFIX_SEQUENCE + "Ascending ";
 
     public static final String MESSAGE_SUCCESS = "Sorted all entries by %s";
 
-    private final SortType type;
-    private final SortSequence sequence;
+    private final EntryComparator comparator;
 
-    public SortCommand(SortType type, SortSequence sequence) {
-        this.type = type;
-        this.sequence = sequence;
+    public SortCommand(EntryComparator comparator) {
+        this.comparator = comparator;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.sortFilteredEntry(type, sequence);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, type));
+        model.loadAllEntries();
+        model.sortFilteredEntry(comparator);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, comparator));
     }
 
 }
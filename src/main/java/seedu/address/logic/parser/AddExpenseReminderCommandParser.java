@@ -42,7 +42,7 @@ public class AddExpenseReminderCommandParser implements Parser<AddExpenseReminde
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
         ExpenseContainsTagPredicate predicate = new ExpenseContainsTagPredicate(tagList);
         ExpenseTracker tracker = new ExpenseTracker(predicate);
-        ExpenseReminder newreminder = new ExpenseReminder(desc.toString(), (long) amt.value, tracker);
+        ExpenseReminder newreminder = new ExpenseReminder(desc.toString(), amt.getWholeDollars(), tracker);
 
         return new AddExpenseReminderCommand(newreminder);
     }
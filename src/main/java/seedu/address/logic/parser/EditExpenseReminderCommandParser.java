@@ -49,7 +49,7 @@ public class EditExpenseReminderCommandParser implements Parser<EditExpenseRemin
 
         if (argMultimap.getValue(PREFIX_AMOUNT).isPresent()) {
             editReminderDescriptor.setAmount(
-                    (long) ParserUtil.parseAmount(argMultimap.getValue(PREFIX_AMOUNT).get()).value);
+                    ParserUtil.parseAmount(argMultimap.getValue(PREFIX_AMOUNT).get()).getWholeDollars());
         }
         parseTagsForEdit(argMultimap.getAllValues(PREFIX_TAG)).ifPresent(editReminderDescriptor::setTags);
 
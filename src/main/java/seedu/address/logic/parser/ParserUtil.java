@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -52,14 +53,18 @@ public class ParserUtil {
     }
 
     /**
-     * Parses a stringAmt into an Amount.
+     * Parses a stringAmt into an Amount, exactly to the cent.
      * @param stringAmt the amount as a String.
      * @return an Amount.
+     * @throws ParseException if the amount is too large to be held to the cent.
      */
-    public static Amount parseAmount(String stringAmt) {
+    public static Amount parseAmount(String stringAmt) throws ParseException {
         requireNonNull(stringAmt);
-        double amt = Double.parseDouble(stringAmt);
-        return new Amount(amt);
+        try {
+            return new Amount(new BigDecimal(stringAmt.trim()));
+        } catch (ArithmeticException e) {
+            throw new ParseException(Amount.MESSAGE_TOO_LARGE, e);
+        }
     }
 
     /**
@@ -69,27 +74,37 @@ public class ParserUtil {
      */
     public static Date parseTime(String time) {
         requireNonNull(time);
-        return new Date(time);
+        return Date.of(time);
     }
 
     /**
      * Parses a type of sorting in String to SortType.
      * @param type the time as a String.
      * @return the specified time as SortType.
+     * @throws ParseException if the given {@code type} is not a key that entries can be sorted by.
      */
-    public static SortType parseSortType(String type) {
+    public static SortType parseSortType(String type) throws ParseException {
         requireNonNull(type);
-        return new SortType(type);
+        String trimmedType = type.trim();
+        if (!SortType.isValidDescription(trimmedType)) {
+            throw new ParseException(SortType.MESSAGE_CONSTRAINTS);
+        }
+        return new SortType(trimmedType);
     }
 
     /**
      * Parses a type of sequencesorting in String to SortSequence.
      * @param sequence the sequence of sorting as a String.
      * @return the specified time as SortSequence.
+     * @throws ParseException if the given {@code sequence} is invalid.
      */
-    public static SortSequence parseSortSequence(String sequence) {
+    public static SortSequence parseSortSequence(String sequence) throws ParseException {
         requireNonNull(sequence);
-        return new SortSequence(sequence);
+        String trimmedSequence = sequence.trim();
+        if (!SortSequence.isValidDescription(trimmedSequence)) {
+            throw new ParseException(SortSequence.MESSAGE_CONSTRAINTS);
+        }
+        return new SortSequence(trimmedSequence);
     }
 
 
@@ -105,7 +120,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
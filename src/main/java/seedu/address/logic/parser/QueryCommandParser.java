@@ -0,0 +1,226 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.EntryColumns.Type;
+import seedu.address.model.query.Query;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ *
+ * A query is a list of criteria, all of which must match, joined by {@code or} into alternatives; {@code not} and
+ * brackets bind tighter than both, so {@code a b or not c} is {@code (a and b) or (not c)}. An explicit {@code and}
+ * may be written between criteria but is not needed.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String NOT = "not";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+    private static final String RANGE_SEPARATOR = "..";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        Cursor cursor = new Cursor(tokenize(args));
+        if (!cursor.hasNext()) {
+            throw invalidFormat();
+        }
+        Query query = parseAnyOf(cursor);
+        if (cursor.hasNext()) {
+            throw invalidFormat();
+        }
+        return new QueryCommand(query);
+    }
+
+    private static List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : args.replace(OPEN, " " + OPEN + " ").replace(CLOSE, " " + CLOSE + " ").trim()
+                .split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(word);
+            }
+        }
+        return tokens;
+    }
+
+    private static Query parseAnyOf(Cursor cursor) throws ParseException {
+        List<Query> alternatives = new ArrayList<>();
+        alternatives.add(parseAllOf(cursor));
+        while (cursor.accept(OR)) {
+            alternatives.add(parseAllOf(cursor));
+        }
+        return Query.anyOf(alternatives);
+    }
+
+    private static Query parseAllOf(Cursor cursor) throws ParseException {
+        List<Query> criteria = new ArrayList<>();
+        criteria.add(parseUnary(cursor));
+        while (cursor.hasNext() && !cursor.isAt(OR) && !cursor.isAt(CLOSE)) {
+            cursor.accept(AND);
+            criteria.add(parseUnary(cursor));
+        }
+        return Query.allOf(criteria);
+    }
+
+    private static Query parseUnary(Cursor cursor) throws ParseException {
+        if (!cursor.hasNext()) {
+            throw invalidFormat();
+        }
+        if (cursor.accept(NOT)) {
+            return Query.not(parseUnary(cursor));
+        }
+        if (cursor.accept(OPEN)) {
+            Query query = parseAnyOf(cursor);
+            if (!cursor.accept(CLOSE)) {
+                throw invalidFormat();
+            }
+            return query;
+        }
+        if (cursor.isAt(AND) || cursor.isAt(OR) || cursor.isAt(CLOSE)) {
+            throw invalidFormat();
+        }
+        return parseCriterion(cursor.next());
+    }
+
+    /**
+     * Parses a single criterion, such as {@code tg/food}, or a bare word of the description.
+     */
+    private static Query parseCriterion(String token) throws ParseException {
+        if (token.startsWith(PREFIX_TYPE.getPrefix())) {
+            return Query.ofType(parseType(valueOf(token, PREFIX_TYPE)));
+        } else if (token.startsWith(PREFIX_TIME.getPrefix())) {
+            String[] bounds = splitRange(valueOf(token, PREFIX_TIME));
+            long from = bounds[0].isEmpty() ? LocalDate.MIN.toEpochDay() : parseIsoDate(bounds[0]).toEpochDay();
+            long to = bounds[1].isEmpty() ? LocalDate.MAX.toEpochDay() : parseIsoDate(bounds[1]).toEpochDay();
+            return Query.datedBetween(from, to);
+        } else if (token.startsWith(PREFIX_AMOUNT.getPrefix())) {
+            String[] bounds = splitRange(valueOf(token, PREFIX_AMOUNT));
+            long from = bounds[0].isEmpty() ? Long.MIN_VALUE : parseCents(bounds[0]);
+            long to = bounds[1].isEmpty() ? Long.MAX_VALUE : parseCents(bounds[1]);
+            return Query.amountBetween(from, to);
+        } else if (token.startsWith(PREFIX_TAG.getPrefix())) {
+            return Query.taggedWith(ParserUtil.parseTag(valueOf(token, PREFIX_TAG)));
+        } else if (token.startsWith(PREFIX_DESC.getPrefix())) {
+            return Query.withWord(valueOf(token, PREFIX_DESC));
+        }
+        return Query.withWord(token);
+    }
+
+    private static String valueOf(String token, Prefix prefix) throws ParseException {
+        String value = token.substring(prefix.getPrefix().length());
+        if (value.isEmpty()) {
+            throw invalidFormat();
+        }
+        return value;
+    }
+
+    private static Type parseType(String type) throws ParseException {
+        switch (type.toLowerCase(Locale.ROOT)) {
+        case "expense":
+            return Type.EXPENSE;
+        case "income":
+            return Type.INCOME;
+        case "wish":
+            return Type.WISH;
+        case "autoexpense":
+            return Type.AUTO_EXPENSE;
+        default:
+            throw invalidFormat();
+        }
+    }
+
+    /**
+     * Splits {@code range} into its lower and upper bounds, either of which may be empty. A single value is a range
+     * of that value alone.
+     */
+    private static String[] splitRange(String range) throws ParseException {
+        int separator = range.indexOf(RANGE_SEPARATOR);
+        if (separator < 0) {
+            return new String[] {range, range};
+        }
+        String[] bounds = {range.substring(0, separator), range.substring(separator + RANGE_SEPARATOR.length())};
+        if (bounds[0].isEmpty() && bounds[1].isEmpty()) {
+            throw invalidFormat();
+        }
+        return bounds;
+    }
+
+    private static LocalDate parseIsoDate(String date) throws ParseException {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw invalidFormat();
+        }
+    }
+
+    private static long parseCents(String amount) throws ParseException {
+        try {
+            return ParserUtil.parseAmount(amount).getCents();
+        } catch (NumberFormatException e) {
+            throw invalidFormat();
+        }
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * The tokens of a query and the position of the next one to parse, kept apart from the parser so that it holds
+     * no state between calls.
+     */
+    private static class Cursor {
+        private final List<String> tokens;
+        private int position = 0;
+
+        Cursor(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        /**
+         * Returns true if the next token is {@code keyword}, ignoring case.
+         */
+        boolean isAt(String keyword) {
+            return hasNext() && tokens.get(position).equalsIgnoreCase(keyword);
+        }
+
+        /**
+         * Moves past the next token if it is {@code keyword}, ignoring case, and returns whether it did.
+         */
+        boolean accept(String keyword) {
+            if (isAt(keyword)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        String next() {
+            return tokens.get(position++);
+        }
+    }
+
+}
@@ -4,12 +4,15 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SEQUENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.SortSequence;
 import seedu.address.model.person.SortType;
+import seedu.address.model.util.EntryComparator;
 
 /**
  * Parses input arguments and creates a new SortCommand object
@@ -18,7 +21,8 @@ public class SortCommandParser implements Parser<SortCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the SortCommand
-     * and returns a SortCommand object for execution.
+     * and returns a SortCommand object for execution. Each type is paired with the sequence in the same position,
+     * and later pairs break ties in earlier ones.
      * @throws ParseException if the user input does not conform the expected format
      */
     public SortCommand parse(String args) throws ParseException {
@@ -30,9 +34,18 @@ public class SortCommandParser implements Parser<SortCommand> {
                     || !argMultimap.getPreamble().isEmpty()) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
             }
-            SortType type = ParserUtil.parseSortType(argMultimap.getValue(PREFIX_TYPE).get().toLowerCase());
-            SortSequence seq = ParserUtil.parseSortSequence(argMultimap.getValue(PREFIX_SEQUENCE).get().toLowerCase());
-            return new SortCommand(type, seq);
+            List<String> typeValues = argMultimap.getAllValues(PREFIX_TYPE);
+            List<String> sequenceValues = argMultimap.getAllValues(PREFIX_SEQUENCE);
+            if (typeValues.size() != sequenceValues.size()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+            }
+            List<SortType> types = new ArrayList<>();
+            List<SortSequence> sequences = new ArrayList<>();
+            for (int i = 0; i < typeValues.size(); i++) {
+                types.add(ParserUtil.parseSortType(typeValues.get(i).toLowerCase()));
+                sequences.add(ParserUtil.parseSortSequence(sequenceValues.get(i).toLowerCase()));
+            }
+            return new SortCommand(new EntryComparator(types, sequences));
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE), pe);
@@ -2,39 +2,66 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
 import seedu.address.model.person.AutoExpense;
-import seedu.address.model.person.AutoExpenseList;
+import seedu.address.model.person.DescriptionIndex;
 import seedu.address.model.person.Entry;
+import seedu.address.model.person.EntryAttributeIndex;
+import seedu.address.model.person.EntryColumns;
 import seedu.address.model.person.Expense;
-import seedu.address.model.person.ExpenseList;
 import seedu.address.model.person.ExpenseReminder;
 import seedu.address.model.person.ExpenseReminderList;
 import seedu.address.model.person.ExpenseTracker;
 import seedu.address.model.person.ExpenseTrackerList;
+import seedu.address.model.person.FuzzySearchIndex;
 import seedu.address.model.person.Income;
-import seedu.address.model.person.IncomeList;
+import seedu.address.model.person.Reminder;
+import seedu.address.model.person.ReminderStatusListener;
 import seedu.address.model.person.UniqueEntryList;
 import seedu.address.model.person.Wish;
-import seedu.address.model.person.WishList;
 import seedu.address.model.person.WishReminder;
 import seedu.address.model.person.WishReminderList;
 
 /**
  * Wraps all data at the address-book level Duplicates are not allowed (by
  * .isSamePerson comparison)
+ * Every entry is held once, in {@code entries}; the expense, income, wish and autoexpense lists are live views of
+ * the entries of that type, in the order they appear in {@code entries}. The other structures are derived from
+ * {@code entries} and follow it as it changes:
+ * {@code entryColumns} holds the entries column by column, for aggregate queries.
+ * {@code descriptionIndex} maps each word of their descriptions to the entries that have it, for finding entries.
+ * {@code fuzzySearchIndex} also covers tag names, for finding entries by partial or misspelt words.
+ * {@code entryAttributeIndex} indexes their dates, amounts and tags, for queries.
+ * Every entry and reminder is given an id when it is added, from a counter that only moves forward, so ids are
+ * never reused. An edited entry or reminder keeps the id of the one it replaces.
  */
 public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueEntryList entries;
-    private final ExpenseList expenses;
-    private final IncomeList incomes;
-    private final WishList wishes;
-    private final AutoExpenseList autoExpenses;
+    private final ObservableList<Expense> expenses;
+    private final ObservableList<Income> incomes;
+    private final ObservableList<Wish> wishes;
+    private final ObservableList<AutoExpense> autoExpenses;
+    private final EntryColumns entryColumns;
+    private final DescriptionIndex descriptionIndex;
+    private final FuzzySearchIndex fuzzySearchIndex;
+    private final EntryAttributeIndex entryAttributeIndex;
     private final ExpenseReminderList expenseReminders;
     private final ExpenseTrackerList expenseTrackers;
     private final WishReminderList wishReminders;
+    /** The wish reminders that point to each wish. */
+    private final Map<Wish, List<WishReminder>> remindersByWish = new IdentityHashMap<>();
+    private long modificationCount = 0;
+    private long nextId = 1;
     /*
      * The 'unusual' code block below is a non-static initialization block,
      * sometimes used to avoid duplication between constructors. See
@@ -45,16 +72,31 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         entries = new UniqueEntryList();
-        expenses = new ExpenseList();
-        incomes = new IncomeList();
-        wishes = new WishList();
-        autoExpenses = new AutoExpenseList();
+        expenses = typedView(Expense.class);
+        incomes = typedView(Income.class);
+        wishes = typedView(Wish.class);
+        autoExpenses = typedView(AutoExpense.class);
+        entryColumns = new EntryColumns(entries.asUnmodifiableObservableList());
+        descriptionIndex = new DescriptionIndex(entries.asUnmodifiableObservableList());
+        fuzzySearchIndex = new FuzzySearchIndex(entries.asUnmodifiableObservableList());
+        entryAttributeIndex = new EntryAttributeIndex(entries.asUnmodifiableObservableList());
         expenseReminders = new ExpenseReminderList();
         expenseTrackers = new ExpenseTrackerList();
         wishReminders = new WishReminderList();
     }
     public AddressBook() {
     }
+
+    /**
+     * Returns an unmodifiable live view of the entries of type {@code type}.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends Entry> ObservableList<T> typedView(Class<T> type) {
+        ObservableList<? extends Entry> view = new FilteredList<>(entries.asUnmodifiableObservableList(),
+                type::isInstance);
+        // only entries of type T pass the filter
+        return FXCollections.unmodifiableObservableList((ObservableList<T>) view);
+    }
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
      */
@@ -68,47 +110,175 @@ public class AddressBook implements ReadOnlyAddressBook {
      * contain duplicate entries.
      */
     public void setEntries(List<Entry> entries) {
+        modificationCount++;
+        entries.forEach(this::giveId);
         this.entries.setEntries(entries);
     }
+    /**
+     * Replaces the entries of type {@code type} with {@code replacements}, keeping the entries of other types.
+     */
+    private void replaceEntriesOfType(Class<? extends Entry> type, List<? extends Entry> replacements) {
+        List<Entry> updated = new ArrayList<>();
+        for (Entry entry : entries.asUnmodifiableObservableList()) {
+            if (!type.isInstance(entry)) {
+                updated.add(entry);
+            }
+        }
+        replacements.forEach(this::giveId);
+        updated.addAll(replacements);
+        this.entries.setEntries(updated);
+    }
     public void setExpenses(List<Expense> expenses) {
-        this.expenses.setEntries(expenses);
+        modificationCount++;
+        replaceEntriesOfType(Expense.class, expenses);
     }
     public void setIncomes(List<Income> incomes) {
-        this.incomes.setEntries(incomes);
+        modificationCount++;
+        replaceEntriesOfType(Income.class, incomes);
     }
     public void setWishes(List<Wish> wishes) {
-        this.wishes.setEntries(wishes);
+        modificationCount++;
+        replaceEntriesOfType(Wish.class, wishes);
     }
     public void setAutoExpenses(List<AutoExpense> autoExpenses) {
-        this.autoExpenses.setEntries(autoExpenses);
+        modificationCount++;
+        replaceEntriesOfType(AutoExpense.class, autoExpenses);
     }
     public void setExpenseReminders(List<ExpenseReminder> expenseReminders) {
+        modificationCount++;
+        expenseReminders.forEach(this::giveId);
         this.expenseReminders.setEntries(expenseReminders);
     }
     public void setExpenseTrackers(List<ExpenseTracker> trackers) {
+        modificationCount++;
         this.expenseTrackers.setEntries(trackers);
     }
     public void setWishReminders(List<WishReminder> wishReminders) {
+        modificationCount++;
+        wishReminders.forEach(this::giveId);
         this.wishReminders.setEntries(wishReminders);
+        remindersByWish.clear();
+        wishReminders.forEach(this::indexReminder);
+    }
+    /**
+     * Gives {@code entry} the next id if it has none, or makes sure its id is never given out again if it has one.
+     */
+    private void giveId(Entry entry) {
+        entry.setId(claimId(entry.getId()));
     }
+
+    private void giveId(Reminder reminder) {
+        reminder.setId(claimId(reminder.getId()));
+    }
+
     /**
-     * updates the status of all reminders in ExpenseReminderList
+     * Gives {@code edited} the id of {@code target}, the entry it replaces, if it has none.
      */
-    public void updateExpenseReminders() {
-        expenseReminders.updateList();
+    private void inheritId(Entry target, Entry edited) {
+        if (edited.getId() == Entry.NO_ID) {
+            edited.setId(target.getId());
+        }
+        giveId(edited);
+    }
+
+    private void inheritId(Reminder target, Reminder edited) {
+        if (edited.getId() == Reminder.NO_ID) {
+            edited.setId(target.getId());
+        }
+        giveId(edited);
+    }
+
+    private long claimId(long id) {
+        if (id == Entry.NO_ID) {
+            return nextId++;
+        }
+        nextId = Math.max(nextId, id + 1);
+        return id;
+    }
+
+    /**
+     * Makes sure no id below {@code nextId} is given out from now on.
+     */
+    public void reserveIdsBelow(long nextId) {
+        this.nextId = Math.max(this.nextId, nextId);
+    }
+
+    /**
+     * Returns the entry with the id {@code id}, if there is one.
+     */
+    public Optional<Entry> getEntryById(long id) {
+        return entries.getById(id);
+    }
+
+    /**
+     * Returns the expense reminder with the id {@code id}, if there is one.
+     */
+    public Optional<ExpenseReminder> getExpenseReminderById(long id) {
+        return expenseReminders.getById(id);
+    }
+
+    /**
+     * Returns the wish reminder with the id {@code id}, if there is one.
+     */
+    public Optional<WishReminder> getWishReminderById(long id) {
+        return wishReminders.getById(id);
+    }
+
+    /**
+     * Adds a listener that is told whenever an expense reminder is activated or deactivated.
+     */
+    public void addExpenseReminderStatusListener(ReminderStatusListener listener) {
+        expenseReminders.addStatusListener(listener);
     }
     /**
      * When Wishes and WishReminders are read from list, new instances are created.
      * As such editing a wish after loading a file may result in WishReminder not updating wish accordingly.
-     * This attempts to address that.
+     * This attempts to address that, by pointing each reminder to the wish with the same id, or failing that to
+     * the wish with the same fields, found through an index of the wishes by their fields.
      */
     private void mapWishToReminders() {
+        Map<List<Object>, Wish> wishesByKey = new HashMap<>();
+        for (Wish wish : wishes) {
+            wishesByKey.putIfAbsent(wishKey(wish), wish);
+        }
+        remindersByWish.clear();
         for (WishReminder reminder : wishReminders) {
-            for (Wish wish : wishes) {
-                if ((reminder.getWish()).equals(wish)) {
+            if (reminder.getWish() != null) {
+                Wish wish = findWish(reminder.getWish().getId())
+                        .orElseGet(() -> wishesByKey.get(wishKey(reminder.getWish())));
+                if (wish != null) {
                     reminder.setWish(wish);
                 }
             }
+            indexReminder(reminder);
+        }
+    }
+
+    private Optional<Wish> findWish(long id) {
+        return entries.getById(id).filter(entry -> entry instanceof Wish).map(entry -> (Wish) entry);
+    }
+
+    /**
+     * Returns the fields that identify {@code wish} when it is read again from storage.
+     */
+    private static List<Object> wishKey(Wish wish) {
+        return Arrays.asList(wish.getDesc(), wish.getDate(), wish.getAmount(), wish.getTags());
+    }
+
+    private void indexReminder(WishReminder reminder) {
+        if (reminder.getWish() != null) {
+            remindersByWish.computeIfAbsent(reminder.getWish(), unused -> new ArrayList<>()).add(reminder);
+        }
+    }
+
+    private void unindexReminder(WishReminder reminder) {
+        List<WishReminder> reminders = remindersByWish.get(reminder.getWish());
+        if (reminders == null) {
+            return;
+        }
+        reminders.remove(reminder);
+        if (reminders.isEmpty()) {
+            remindersByWish.remove(reminder.getWish());
         }
     }
     /**
@@ -116,11 +286,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
+        modificationCount++;
+        reserveIdsBelow(newData.getNextId());
         setEntries(newData.getEntryList());
-        setExpenses(newData.getExpenseList());
-        setIncomes(newData.getIncomeList());
-        setWishes(newData.getWishList());
-        setAutoExpenses(newData.getAutoExpenseList());
         setExpenseReminders(newData.getExpenseReminderList());
         setExpenseTrackers(newData.getExpenseTrackerList());
         setWishReminders(newData.getWishReminderList());
@@ -156,6 +324,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addEntry(Entry entry) {
+        modificationCount++;
+        giveId(entry);
         entries.add(entry);
     }
 
@@ -165,8 +335,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * * @param expense the specified Expense to be added.
      */
     public void addExpense(Expense expense) {
+        modificationCount++;
+        giveId(expense);
         entries.add(expense);
-        expenses.add(expense);
     }
 
     /**
@@ -175,8 +346,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param income the specified Income to be added.
      */
     public void addIncome(Income income) {
+        modificationCount++;
+        giveId(income);
         entries.add(income);
-        incomes.add(income);
     }
 
     /**
@@ -185,8 +357,21 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param wish the specified Wish to be added.
      */
     public void addWish(Wish wish) {
+        modificationCount++;
+        giveId(wish);
         entries.add(wish);
-        wishes.add(wish);
+    }
+
+    /**
+     * Adds the entries of {@code history}, which were read from storage after this address book was, without
+     * counting it as a modification: the address book now holds more of what is saved, but nothing has changed.
+     */
+    public void addLoadedEntries(ReadOnlyAddressBook history) {
+        requireNonNull(history);
+        for (Entry entry : history.getEntryList()) {
+            giveId(entry);
+            entries.add(entry);
+        }
     }
 
     private void addExpenseTracker(ExpenseTracker tracker) {
@@ -198,6 +383,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param expenseReminder the specified ExpenseTracker to be added.
      */
     public void addExpenseReminder(ExpenseReminder expenseReminder) {
+        modificationCount++;
+        giveId(expenseReminder);
         expenseReminders.add(expenseReminder);
         addExpenseTracker(expenseReminder.getTracker());
     }
@@ -207,7 +394,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param wishReminder the specified ExpenseTracker to be added.
      */
     public void addWishReminder(WishReminder wishReminder) {
+        modificationCount++;
+        giveId(wishReminder);
+        if (wishReminder.getWish() != null) {
+            findWish(wishReminder.getWish().getId()).ifPresent(wishReminder::setWish);
+        }
         wishReminders.add(wishReminder);
+        indexReminder(wishReminder);
     }
     /**
      * Adds the specified AutoExpense to the finance app.
@@ -215,8 +408,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param autoExpense the specified AutoExpense to be added.
      */
     public void addAutoExpense(AutoExpense autoExpense) {
+        modificationCount++;
+        giveId(autoExpense);
         entries.add(autoExpense);
-        autoExpenses.add(autoExpense);
     }
 
     /**
@@ -227,6 +421,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setEntry(Entry target, Entry editedEntry) {
         requireNonNull(editedEntry);
+        modificationCount++;
+        inheritId(target, editedEntry);
         entries.setEntry(target, editedEntry);
     }
 
@@ -238,7 +434,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setExpense(Expense target, Expense editedEntry) {
         requireNonNull(editedEntry);
-        expenses.setExpense(target, editedEntry);
+        modificationCount++;
+        inheritId(target, editedEntry);
         entries.setEntry(target, editedEntry);
     }
 
@@ -250,7 +447,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setIncome(Income target, Income editedEntry) {
         requireNonNull(editedEntry);
-        incomes.setIncome(target, editedEntry);
+        modificationCount++;
+        inheritId(target, editedEntry);
         entries.setEntry(target, editedEntry);
     }
 
@@ -259,11 +457,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code editedIncome}. {@code target} must exist in the address book. The
      * income identity of {@code editedEntry} must not be the same as another
      * existing income in the address book.
+     * The reminders of {@code target} are pointed to {@code editedEntry}.
      */
     public void setWish(Wish target, Wish editedEntry) {
         requireNonNull(editedEntry);
-        wishes.setWish(target, editedEntry);
+        modificationCount++;
+        inheritId(target, editedEntry);
         entries.setEntry(target, editedEntry);
+
+        List<WishReminder> reminders = remindersByWish.remove(target);
+        if (reminders == null) {
+            return;
+        }
+        for (WishReminder reminder : reminders) {
+            reminder.setWish(editedEntry);
+            // replaced with itself, so that those listening to the list see its new wish
+            wishReminders.setWishReminder(reminder, reminder);
+        }
+        remindersByWish.put(editedEntry, reminders);
     }
 
     private void setExpenseTracker(ExpenseTracker target, ExpenseTracker editedEntry) {
@@ -279,6 +490,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setExpenseReminder(ExpenseReminder target, ExpenseReminder editedEntry) {
         requireNonNull(editedEntry);
+        modificationCount++;
+        inheritId(target, editedEntry);
         expenseReminders.setExpenseReminder(target, editedEntry);
         setExpenseTracker(target.getTracker(), editedEntry.getTracker());
     }
@@ -291,7 +504,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setWishReminder(WishReminder target, WishReminder editedEntry) {
         requireNonNull(editedEntry);
+        modificationCount++;
+        inheritId(target, editedEntry);
         wishReminders.setWishReminder(target, editedEntry);
+        unindexReminder(target);
+        indexReminder(editedEntry);
     }
 
 
@@ -304,7 +521,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setAutoExpense(AutoExpense target, AutoExpense editedEntry) {
         requireNonNull(editedEntry);
-        autoExpenses.setAutoExpense(target, editedEntry);
+        modificationCount++;
+        inheritId(target, editedEntry);
         entries.setEntry(target, editedEntry);
     }
 
@@ -313,6 +531,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * the address book.
      */
     public void removeEntry(Entry key) {
+        modificationCount++;
         entries.remove(key);
     }
 
@@ -321,7 +540,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * address book.
      */
     public void removeExpense(Expense key) {
-        expenses.remove(key);
+        modificationCount++;
         entries.remove(key);
     }
 
@@ -330,7 +549,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * address book.
      */
     public void removeIncome(Income key) {
-        incomes.remove(key);
+        modificationCount++;
         entries.remove(key);
     }
 
@@ -339,8 +558,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * address book.
      */
     public void removeWish(Wish key) {
-        wishes.remove(key);
+        modificationCount++;
         entries.remove(key);
+        remindersByWish.remove(key);
     }
     private void removeExpenseTracker(ExpenseTracker key) {
         expenseTrackers.remove(key);
@@ -351,56 +571,109 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeExpenseReminder(ExpenseReminder key) {
+        modificationCount++;
         expenseReminders.remove(key);
         removeExpenseTracker(key.getTracker());
     }
     public void removeWishReminder(WishReminder key) {
+        modificationCount++;
         wishReminders.remove(key);
+        unindexReminder(key);
     }
     /**
      * Removes {@code key} from this {@code autoExpenses}. {@code key} must exist in
      * the address book.
      */
     public void removeAutoExpense(AutoExpense key) {
-        autoExpenses.remove(key);
+        modificationCount++;
         entries.remove(key);
     }
     //// util methods
+
+    /**
+     * Returns the number of modifications made to this address book so far.
+     * The count changes with every modification, so comparing it with an earlier value tells whether the address
+     * book has changed since then.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public String toString() {
         return entries.asUnmodifiableObservableList().size() + " persons";
         // TODO: refine later
     }
 
+    @Override
+    public long getNextId() {
+        return nextId;
+    }
+
     @Override
     public ObservableList<Entry> getEntryList() {
         return entries.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the columns of the entries, which are kept up to date as the entries change.
+     */
+    public EntryColumns getEntryColumns() {
+        return entryColumns;
+    }
+
+    /**
+     * Returns the index of the words in the descriptions of the entries, which is kept up to date as they change.
+     */
+    public DescriptionIndex getDescriptionIndex() {
+        return descriptionIndex;
+    }
+
+    /**
+     * Returns the index for finding entries by partial or misspelt words, which is kept up to date as they change.
+     */
+    public FuzzySearchIndex getFuzzySearchIndex() {
+        return fuzzySearchIndex;
+    }
+
+    /**
+     * Returns the indexes of the dates, amounts and tags of the entries, which are kept up to date as they change.
+     */
+    public EntryAttributeIndex getEntryAttributeIndex() {
+        return entryAttributeIndex;
+    }
+
     @Override
     public ObservableList<Expense> getExpenseList() {
-        return expenses.asUnmodifiableObservableList();
+        return expenses;
     }
 
     @Override
     public ObservableList<Income> getIncomeList() {
-        return incomes.asUnmodifiableObservableList();
+        return incomes;
     }
 
     @Override
     public ObservableList<Wish> getWishList() {
-        return wishes.asUnmodifiableObservableList();
+        return wishes;
     }
 
     @Override
     public ObservableList<AutoExpense> getAutoExpenseList() {
-        return autoExpenses.asUnmodifiableObservableList();
+        return autoExpenses;
     }
 
     public ObservableList<ExpenseReminder> getExpenseReminderList() {
         return expenseReminders.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the expense reminders that are activated, as a list that is updated as they change.
+     */
+    public ObservableList<ExpenseReminder> getActiveExpenseReminderList() {
+        return expenseReminders.getDisplay();
+    }
+
     @Override
     public ObservableList<ExpenseTracker> getExpenseTrackerList() {
         return expenseTrackers.asUnmodifiableObservableList();
@@ -0,0 +1,40 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.time.YearMonth;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Loads the entries of months that were left in storage when the address book was read, so that only the months
+ * in use are kept in memory until the rest of the history is needed.
+ */
+public interface HistoryLoader {
+
+    /**
+     * Returns true if the entries dated in {@code month} are in the address book that was read,
+     * either because they were loaded or because there were none.
+     */
+    boolean isLoaded(YearMonth month);
+
+    /**
+     * Returns true if any month still has entries that have not been loaded.
+     */
+    boolean hasUnloadedEntries();
+
+    /**
+     * Reads the entries of every month that has not been loaded yet, and from then on treats those months as loaded.
+     *
+     * @return an address book holding only the entries that were read.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    ReadOnlyAddressBook loadUnloadedEntries() throws DataConversionException, IOException;
+
+    /**
+     * Drops the entries of every month that has not been loaded yet, as if they had been loaded and then deleted.
+     * They are removed from storage at the next save.
+     */
+    void discardUnloadedEntries();
+
+}
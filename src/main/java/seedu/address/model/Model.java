@@ -6,14 +6,17 @@ import java.util.function.Predicate;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.AutoExpense;
+import seedu.address.model.person.DescriptionIndex;
 import seedu.address.model.person.Entry;
+import seedu.address.model.person.EntryColumns;
 import seedu.address.model.person.Expense;
 import seedu.address.model.person.ExpenseReminder;
+import seedu.address.model.person.FuzzySearchIndex;
 import seedu.address.model.person.Income;
-import seedu.address.model.person.SortSequence;
-import seedu.address.model.person.SortType;
 import seedu.address.model.person.Wish;
 import seedu.address.model.person.WishReminder;
+import seedu.address.model.query.Query;
+import seedu.address.model.util.EntryComparator;
 
 /**
  * The API of the Model component.
@@ -65,6 +68,18 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a count that changes whenever the address book is modified.
+     * Comparing it with an earlier value tells whether there is anything new to save.
+     */
+    long getAddressBookModificationCount();
+
+    /**
+     * Loads the entries of every month into the address book, if storage left the older months out when it was read.
+     * Commands that look through the whole history, such as find and sort, should call this first.
+     */
+    void loadAllEntries();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in
      * the address book.
@@ -143,7 +158,20 @@ public interface Model {
 
     ObservableList<ExpenseReminder> getFilteredExpenseReminders();
 
+    /** Returns an unmodifiable view of the activated expense reminders, updated as they are activated */
+    ObservableList<ExpenseReminder> getActiveExpenseReminders();
+
     ObservableList<WishReminder> getFiltereWishReminders();
+
+    /** Returns the columns of every entry, for sums, counts and group-bys over them */
+    EntryColumns getEntryColumns();
+
+    /** Returns the index of the words in the descriptions of every entry, for finding entries by word */
+    DescriptionIndex getDescriptionIndex();
+
+    /** Returns the index of the words and tags of every entry, for finding entries by partial or misspelt words */
+    FuzzySearchIndex getFuzzySearchIndex();
+
     /**
      * Updates the filter of the filtered entry list to filter by the given
      * {@code predicate}.
@@ -152,6 +180,14 @@ public interface Model {
      */
     void updateFilteredEntryList(Predicate<Entry> predicate);
 
+    /**
+     * Updates the filter of the filtered entry list to the entries that match {@code query}, narrowed down through
+     * the indexes of the address book where it can be.
+     *
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void filterEntriesByQuery(Query query);
+
     void updateFilteredExpenses(Predicate<Expense> predicate);
 
     void updateFilteredIncomes(Predicate<Income> predicate);
@@ -160,7 +196,10 @@ public interface Model {
 
     void updateFilteredAutoExpenses(Predicate<AutoExpense> predicate);
 
-    void sortFilteredEntry(SortType comparator, SortSequence sequence);
+    void sortFilteredEntry(EntryComparator comparator);
+
+    /** Returns the order that the entry list is currently sorted in. */
+    EntryComparator getEntryComparator();
 
     void updateFilteredExpenseReminders(Predicate<ExpenseReminder> predicate);
 
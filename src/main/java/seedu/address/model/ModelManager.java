@@ -3,25 +3,36 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.person.AutoExpense;
+import seedu.address.model.person.DescriptionIndex;
 import seedu.address.model.person.Entry;
+import seedu.address.model.person.EntryColumns;
 import seedu.address.model.person.Expense;
 import seedu.address.model.person.ExpenseReminder;
 import seedu.address.model.person.ExpenseTrackerManager;
+import seedu.address.model.person.FuzzySearchIndex;
 import seedu.address.model.person.Income;
 import seedu.address.model.person.SortSequence;
 import seedu.address.model.person.SortType;
+import seedu.address.model.person.SortedEntryList;
 import seedu.address.model.person.Wish;
 import seedu.address.model.person.WishReminder;
+import seedu.address.model.person.WishReminderScheduler;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlanner;
 import seedu.address.model.util.EntryComparator;
 
 /**
@@ -29,8 +40,6 @@ import seedu.address.model.util.EntryComparator;
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
-    private final SortType sortByDescription = new SortType("description");
-    private final SortSequence sortByAsc = new SortSequence("ascending");
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Entry> filteredEntries;
@@ -38,17 +47,38 @@ public class ModelManager implements Model {
     private final FilteredList<Income> filteredIncomes;
     private final FilteredList<Wish> filteredWishes;
     private final FilteredList<AutoExpense> filteredAutoExpenses;
-    private final SortedList<Entry> sortedEntryList;
+    /** Kept sorted by the sort the user last chose, which new and edited entries are slotted into. */
+    private final SortedEntryList sortedEntryList;
     private final FilteredList<ExpenseReminder> filteredExpenseReminders;
     private final ExpenseTrackerManager expenseTrackers;
     private final FilteredList<WishReminder> filteredWishReminders;
+    private final WishReminderScheduler wishReminderScheduler;
+    private final HistoryLoader historyLoader;
+    private final QueryPlanner queryPlanner;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, null);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, where {@code historyLoader} loads the
+     * months of entries that storage left out of {@code addressBook}, or is null if it holds every entry.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, HistoryLoader historyLoader) {
+        this(addressBook, userPrefs, historyLoader, Runnable::run);
+    }
+
+    /**
+     * Similar to {@link #ModelManager(ReadOnlyAddressBook, ReadOnlyUserPrefs, HistoryLoader)}, where wish reminders
+     * that come due while the app is running are activated through {@code reminderExecutor}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, HistoryLoader historyLoader,
+                        Executor reminderExecutor) {
         super();
-        requireAllNonNull(addressBook, userPrefs);
+        requireAllNonNull(addressBook, userPrefs, reminderExecutor);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
@@ -58,14 +88,21 @@ public class ModelManager implements Model {
         filteredIncomes = new FilteredList<>(this.addressBook.getIncomeList());
         filteredWishes = new FilteredList<>(this.addressBook.getWishList());
         filteredAutoExpenses = new FilteredList<>(this.addressBook.getAutoExpenseList());
-        sortedEntryList = new SortedList<>(this.addressBook.getEntryList());
-        sortedEntryList.setComparator(new EntryComparator(sortByDescription, sortByAsc));
-        filteredEntries = new FilteredList<>(sortedEntryList);
+        sortedEntryList = new SortedEntryList(this.addressBook.getEntryList(),
+                new EntryComparator(new SortType("description"), new SortSequence("ascending")));
+        filteredEntries = new FilteredList<>(sortedEntryList.asUnmodifiableObservableList());
         filteredExpenseReminders = new FilteredList<>(this.addressBook.getExpenseReminderList());
         filteredWishReminders = new FilteredList<>(this.addressBook.getWishReminderList());
-        expenseTrackers = new ExpenseTrackerManager(this.addressBook.getExpenseTrackerList());
-        expenseTrackers.track(filteredExpenses);
-        this.addressBook.updateExpenseReminders();
+        expenseTrackers = new ExpenseTrackerManager(this.addressBook.getExpenseTrackerList(),
+                this.addressBook.getExpenseList());
+        this.addressBook.addExpenseReminderStatusListener(reminder ->
+                logger.info("Expense reminder " + (reminder.getStatus() ? "activated: " : "deactivated: ")
+                        + reminder.getMessage()));
+        wishReminderScheduler = new WishReminderScheduler(this.addressBook.getWishReminderList(),
+                Clock.systemDefaultZone(), reminderExecutor);
+        this.historyLoader = historyLoader;
+        queryPlanner = new QueryPlanner(this.addressBook.getDescriptionIndex(),
+                this.addressBook.getEntryAttributeIndex(), this.addressBook::getEntryById);
     }
 
     public ModelManager() {
@@ -113,6 +150,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        if (historyLoader != null) {
+            historyLoader.discardUnloadedEntries();
+        }
         this.addressBook.resetData(addressBook);
     }
 
@@ -121,6 +161,44 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
+    @Override
+    public void loadAllEntries() {
+        if (historyLoader == null || !historyLoader.hasUnloadedEntries()) {
+            return;
+        }
+
+        try {
+            ReadOnlyAddressBook history = historyLoader.loadUnloadedEntries();
+            addressBook.addLoadedEntries(history);
+            logger.info("Loaded " + history.getEntryList().size() + " older entries");
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not load older entries, only the recent ones will be used: " + e);
+        }
+    }
+
+    /**
+     * Loads every month before the expense trackers are first read, as they total every matching expense, not
+     * just the recent ones.
+     */
+    private void loadEntriesForTrackers() {
+        loadAllEntries();
+    }
+
+    /**
+     * Loads every month if {@code entry} is dated in one whose entries are still in storage, so that saving
+     * {@code entry} does not overwrite them.
+     */
+    private void loadMonthOf(Entry entry) {
+        if (historyLoader != null && !historyLoader.isLoaded(YearMonth.from(entry.getDate().getDate()))) {
+            loadAllEntries();
+        }
+    }
+
     @Override
     public boolean hasEntry(Entry entry) {
         requireNonNull(entry);
@@ -135,41 +213,34 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteEntry(Entry target) {
-        addressBook.removeEntry(target);
         if (target instanceof Expense) {
             addressBook.removeExpense((Expense) target);
-            expenseTrackers.track(filteredExpenses);
-            addressBook.updateExpenseReminders();
         } else if (target instanceof Income) {
             addressBook.removeIncome((Income) target);
         } else if (target instanceof Wish) {
             addressBook.removeWish((Wish) target);
+        } else {
+            addressBook.removeEntry(target);
         }
     }
 
     @Override
     public void deleteExpense(Expense target) {
-        addressBook.removeEntry(target);
         addressBook.removeExpense(target);
-        expenseTrackers.track(filteredExpenses);
-        addressBook.updateExpenseReminders();
     }
 
     @Override
     public void deleteIncome(Income target) {
-        addressBook.removeEntry(target);
         addressBook.removeIncome(target);
     }
 
     @Override
     public void deleteWish(Wish target) {
-        addressBook.removeEntry(target);
         addressBook.removeWish(target);
     }
 
     @Override
     public void deleteAutoExpense(AutoExpense target) {
-        addressBook.removeEntry(target);
         addressBook.removeAutoExpense(target);
     }
 
@@ -179,40 +250,37 @@ public class ModelManager implements Model {
 
     @Override
     public void addEntry(Entry entry) {
-        addressBook.addEntry(entry);
+        loadMonthOf(entry);
         if (entry instanceof Expense) {
             addressBook.addExpense((Expense) entry);
-            expenseTrackers.track(filteredExpenses);
-            addressBook.updateExpenseReminders();
         } else if (entry instanceof Income) {
             addressBook.addIncome((Income) entry);
         } else if (entry instanceof Wish) {
             addressBook.addWish((Wish) entry);
+        } else {
+            addressBook.addEntry(entry);
         }
-        sortFilteredEntry(sortByDescription, sortByAsc);
         updateFilteredEntryList(PREDICATE_SHOW_ALL_ENTRIES);
     }
 
     @Override
     public void addExpense(Expense expense) {
+        loadMonthOf(expense);
         addressBook.addExpense(expense);
-        sortFilteredEntry(sortByDescription, sortByAsc);
         updateFilteredEntryList(PREDICATE_SHOW_ALL_ENTRIES);
-        expenseTrackers.track(filteredExpenses);
-        addressBook.updateExpenseReminders();
     }
 
     @Override
     public void addIncome(Income income) {
+        loadMonthOf(income);
         addressBook.addIncome(income);
-        sortFilteredEntry(sortByDescription, sortByAsc);
         updateFilteredEntryList(PREDICATE_SHOW_ALL_ENTRIES);
     }
 
     @Override
     public void addWish(Wish wish) {
+        loadMonthOf(wish);
         addressBook.addWish(wish);
-        sortFilteredEntry(sortByDescription, sortByAsc);
         updateFilteredEntryList(PREDICATE_SHOW_ALL_ENTRIES);
     }
 
@@ -224,32 +292,30 @@ public class ModelManager implements Model {
 
     @Override
     public void addExpenseReminder(ExpenseReminder expenseReminder) {
+        loadEntriesForTrackers();
         addressBook.addExpenseReminder(expenseReminder);
-        expenseTrackers.track(filteredExpenses);
-        addressBook.updateExpenseReminders();
     }
 
     @Override
     public void setEntry(Entry target, Entry editedEntry) {
         requireAllNonNull(target, editedEntry);
-        addressBook.setEntry(target, editedEntry);
+        loadMonthOf(editedEntry);
         if (target instanceof Expense) {
             addressBook.setExpense((Expense) target, (Expense) editedEntry);
-            expenseTrackers.track(filteredExpenses);
-            addressBook.updateExpenseReminders();
         } else if (target instanceof Income) {
             addressBook.setIncome((Income) target, (Income) editedEntry);
         } else if (target instanceof Wish) {
             addressBook.setWish((Wish) target, (Wish) editedEntry);
+        } else {
+            addressBook.setEntry(target, editedEntry);
         }
     }
 
     @Override
     public void setExpenseReminder(ExpenseReminder target, ExpenseReminder editedEntry) {
         requireAllNonNull(target, editedEntry);
+        loadEntriesForTrackers();
         addressBook.setExpenseReminder(target, editedEntry);
-        expenseTrackers.track(filteredExpenses);
-        addressBook.updateExpenseReminders();
     }
 
 
@@ -285,9 +351,31 @@ public class ModelManager implements Model {
     }
 
     public ObservableList<ExpenseReminder> getFilteredExpenseReminders() {
+        loadEntriesForTrackers();
         return filteredExpenseReminders;
     }
 
+    @Override
+    public ObservableList<ExpenseReminder> getActiveExpenseReminders() {
+        loadEntriesForTrackers();
+        return addressBook.getActiveExpenseReminderList();
+    }
+
+    @Override
+    public EntryColumns getEntryColumns() {
+        return addressBook.getEntryColumns();
+    }
+
+    @Override
+    public DescriptionIndex getDescriptionIndex() {
+        return addressBook.getDescriptionIndex();
+    }
+
+    @Override
+    public FuzzySearchIndex getFuzzySearchIndex() {
+        return addressBook.getFuzzySearchIndex();
+    }
+
 
     public ObservableList<WishReminder> getFiltereWishReminders() {
         return filteredWishReminders;
@@ -303,8 +391,23 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void sortFilteredEntry(SortType c, SortSequence sequence) {
-        sortedEntryList.setComparator(new EntryComparator(c, sequence));
+    public void filterEntriesByQuery(Query query) {
+        requireNonNull(query);
+        filteredEntries.setPredicate(queryPlanner.resolve(query));
+    }
+
+    /**
+     * Sorts the entries by {@code comparator}, until another sort is chosen. Entries added or edited after this are
+     * put in place by binary search, without sorting the list again.
+     */
+    @Override
+    public void sortFilteredEntry(EntryComparator comparator) {
+        sortedEntryList.setComparator(comparator);
+    }
+
+    @Override
+    public EntryComparator getEntryComparator() {
+        return sortedEntryList.getComparator();
     }
 
     @Override
@@ -34,4 +34,10 @@ public interface ReadOnlyAddressBook {
     ObservableList<ExpenseTracker> getExpenseTrackerList();
 
     ObservableList<WishReminder> getWishReminderList();
+
+    /**
+     * Returns the id that the next entry or reminder added will be given. Ids are never reused, so every id given
+     * so far is below it.
+     */
+    long getNextId();
 }
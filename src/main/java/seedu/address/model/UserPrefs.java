@@ -1,20 +1,28 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.SaveDurability;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_INVALID_SAVE_INTERVAL = "Save interval cannot be negative";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private SaveDurability saveDurability = SaveDurability.WRITE_BEHIND;
+    private long saveIntervalMillis = 500;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setSaveDurability(newUserPrefs.getSaveDurability());
+        setSaveIntervalMillis(newUserPrefs.getSaveIntervalMillis());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +67,33 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public SaveDurability getSaveDurability() {
+        return saveDurability;
+    }
+
+    public void setSaveDurability(SaveDurability saveDurability) {
+        requireNonNull(saveDurability);
+        this.saveDurability = saveDurability;
+    }
+
+    public long getSaveIntervalMillis() {
+        return saveIntervalMillis;
+    }
+
+    public void setSaveIntervalMillis(long saveIntervalMillis) {
+        checkArgument(saveIntervalMillis >= 0, MESSAGE_INVALID_SAVE_INTERVAL);
+        this.saveIntervalMillis = saveIntervalMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +106,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && addressBookFormat == o.addressBookFormat
+                && saveDurability == o.saveDurability
+                && saveIntervalMillis == o.saveIntervalMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, saveDurability,
+                saveIntervalMillis);
     }
 
     @Override
@@ -81,6 +123,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nSaving : " + saveDurability + " every " + saveIntervalMillis + "ms");
         return sb.toString();
     }
 
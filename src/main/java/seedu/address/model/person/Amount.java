@@ -2,27 +2,62 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
 /**
- * Represents a Person's phone number in the address book.
- * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
+ * Represents an amount of money in the finance app, held exactly as a whole number of cents.
+ * Guarantees: immutable.
  */
-public class Amount {
+public class Amount implements Comparable<Amount> {
 
 
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     //public static final String VALIDATION_REGEX = "\\d{3,}";
-    public final double value;
+    public static final String MESSAGE_TOO_LARGE =
+            "Amounts should be at most " + BigDecimal.valueOf(Long.MAX_VALUE, 2).toPlainString();
+    /** Number of cents in one dollar. */
+    public static final long CENTS_PER_DOLLAR = 100;
+    private static final int CENTS_SCALE = 2;
+
+    private final long cents;
 
     /**
-     * Constructs an {@code Amount}.
+     * Constructs an {@code Amount} from the decimal that {@code amount} is written as, like
+     * {@link #Amount(BigDecimal)}, so that {@code 1.005} is rounded up as the decimal it stands for.
      *
-     * @param amount A valid phone number.
+     * @param amount A valid amount in dollars.
+     * @throws NumberFormatException if {@code amount} is infinite or not a number.
+     * @throws ArithmeticException if the amount has more cents than fit in a {@code long}.
      */
     public Amount(double amount) {
+        this(BigDecimal.valueOf(amount));
+    }
+
+    /**
+     * Constructs an {@code Amount} from an exact number of dollars, rounded half up to the nearest cent.
+     *
+     * @throws ArithmeticException if the amount has more cents than fit in a {@code long}.
+     */
+    public Amount(BigDecimal amount) {
         requireNonNull(amount);
-        //checkArgument(isValidPhone(amount), MESSAGE_CONSTRAINTS);
-        value = amount;
+        cents = amount.setScale(CENTS_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Constructs an {@code Amount} of exactly {@code cents} cents, for {@link #ofCents(long)} and the arithmetic
+     * below.
+     */
+    private Amount(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Returns the amount of {@code cents} cents.
+     */
+    public static Amount ofCents(long cents) {
+        return new Amount(cents);
     }
 
     /**
@@ -32,16 +67,59 @@ public class Amount {
     //    return test.matches(VALIDATION_REGEX);
     //}
 
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * Returns the amount in whole dollars, leaving out the cents.
+     */
+    public long getWholeDollars() {
+        return cents / CENTS_PER_DOLLAR;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, CENTS_SCALE);
+    }
+
+    /**
+     * Returns the sum of this amount and {@code other}.
+     *
+     * @throws ArithmeticException if the sum does not fit in a long number of cents.
+     */
+    public Amount add(Amount other) {
+        return new Amount(Math.addExact(cents, other.cents));
+    }
+
+    /**
+     * Returns this amount less {@code other}.
+     *
+     * @throws ArithmeticException if the difference does not fit in a long number of cents.
+     */
+    public Amount subtract(Amount other) {
+        return new Amount(Math.subtractExact(cents, other.cents));
+    }
+
+    @Override
+    public int compareTo(Amount other) {
+        return Long.compare(cents, other.cents);
+    }
+
     @Override
     public String toString() {
-        return value + "";
+        return toBigDecimal().toPlainString();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Amount) // instanceof handles nulls
-                && value == ((Amount) other).value; // state check
+                && cents == ((Amount) other).cents; // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
     }
 
 }
@@ -6,10 +6,13 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 /**
- * Represents a Person's name in the address book.
- * Guarantees: immutable; is valid as declared in {@link #isValidDescription(String)}
+ * Represents the date of an entry in the finance app, held as a day count from the epoch.
+ * Guarantees: immutable
+ *
+ * Dates are meant to be obtained through the {@code of} methods, which share one instance for each day of the years
+ * most entries fall in, so loading a large ledger does not make a new date for every entry.
  */
-public class Date {
+public class Date implements Comparable<Date> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Names should only contain alphanumeric characters and spaces, and it should not be blank";
@@ -20,40 +23,78 @@ public class Date {
      */
     //public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
-    //public final String fullDate;
-    private LocalDate date;
-    private String fullTime;
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy MM dd");
 
-    /**
-     * Constructs a {@code Time}.
-     *
-     * @param time A valid time.
-     */
+    /** The days that share an instance, from the first day of the first year to the last day of the last year. */
+    private static final long FIRST_SHARED_DAY = LocalDate.of(1970, 1, 1).toEpochDay();
+    private static final long LAST_SHARED_DAY = LocalDate.of(2099, 12, 31).toEpochDay();
+    /** Filled in as days are first asked for; a race only makes an extra instance, which is harmless. */
+    private static final Date[] sharedDates = new Date[Math.toIntExact(LAST_SHARED_DAY - FIRST_SHARED_DAY + 1)];
+
+    private final long epochDay;
+    /** Rendered when first asked for. */
+    private String fullTime;
 
     /**
      * Converts String to LocalDate
      * @param date in the format yyyy mm dd.
      */
     public Date(String date) {
-        requireNonNull(date);
-        //checkArgument(isValidDescription(desc), MESSAGE_CONSTRAINTS);
-        String[] stringDate = date.toString().split(" ");
-        this.date = LocalDate.of(Integer.parseInt(stringDate[0]), Integer.parseInt(stringDate[1]),
-                Integer.parseInt(stringDate[2]));
-        parseDate();
-
+        this(parseEpochDay(date));
     }
 
     public Date(LocalDate date) {
+        this(date.toEpochDay());
+    }
+
+    private Date(long epochDay) {
+        this.epochDay = epochDay;
+    }
+
+    /**
+     * Returns the date of {@code date}, in the format yyyy mm dd.
+     */
+    public static Date of(String date) {
+        return ofEpochDay(parseEpochDay(date));
+    }
+
+    public static Date of(LocalDate date) {
+        return ofEpochDay(date.toEpochDay());
+    }
+
+    /**
+     * Returns the date {@code epochDay} days after the epoch, 1970 01 01.
+     */
+    public static Date ofEpochDay(long epochDay) {
+        if (epochDay < FIRST_SHARED_DAY || epochDay > LAST_SHARED_DAY) {
+            return new Date(epochDay);
+        }
+        int index = (int) (epochDay - FIRST_SHARED_DAY);
+        Date shared = sharedDates[index];
+        if (shared == null) {
+            shared = new Date(epochDay);
+            sharedDates[index] = shared;
+        }
+        return shared;
+    }
+
+    /**
+     * Returns the day count from the epoch of {@code date}, given as year, month and day separated by spaces.
+     */
+    private static long parseEpochDay(String date) {
         requireNonNull(date);
         //checkArgument(isValidDescription(desc), MESSAGE_CONSTRAINTS);
-        this.date = date;
-        parseDate();
-    }
-    private void parseDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy MM dd");
-        fullTime = date.format(formatter);
+        int monthStart = date.indexOf(' ') + 1;
+        int dayStart = date.indexOf(' ', monthStart) + 1;
+        if (monthStart == 0 || dayStart == 0) {
+            throw new NumberFormatException("For input string: \"" + date + "\"");
+        }
+        int dayEnd = date.indexOf(' ', dayStart);
+        return LocalDate.of(Integer.parseInt(date, 0, monthStart - 1, 10),
+                Integer.parseInt(date, monthStart, dayStart - 1, 10),
+                Integer.parseInt(date, dayStart, dayEnd < 0 ? date.length() : dayEnd, 10)).toEpochDay();
     }
+
     /**
      * Returns true if a given string is a valid name.
      */
@@ -63,24 +104,38 @@ public class Date {
     }
 
     public LocalDate getDate() {
-        return date;
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    public long getEpochDay() {
+        return epochDay;
+    }
+
+    @Override
+    public int compareTo(Date other) {
+        return Long.compare(epochDay, other.epochDay);
     }
 
     @Override
     public String toString() {
-        return fullTime;
+        String rendered = fullTime;
+        if (rendered == null) {
+            rendered = getDate().format(FORMATTER);
+            fullTime = rendered;
+        }
+        return rendered;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Date // instanceof handles nulls
-                && fullTime.equals(((Date) other).fullTime)); // state check
+                && epochDay == ((Date) other).epochDay); // state check
     }
 
     @Override
     public int hashCode() {
-        return fullTime.hashCode();
+        return Long.hashCode(epochDay);
     }
 
 }
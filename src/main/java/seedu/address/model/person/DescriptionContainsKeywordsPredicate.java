@@ -15,6 +15,10 @@ public class DescriptionContainsKeywordsPredicate implements Predicate<Entry> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Entry entry) {
         return keywords.stream()
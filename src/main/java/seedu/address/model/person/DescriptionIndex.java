@@ -0,0 +1,179 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An inverted index of the words in the descriptions of a list of entries.
+ *
+ * Each word, lower-cased, maps to the ids of the entries whose description has it, in ascending order. The index is
+ * kept up to date as the list changes, so finding the entries with some words is a merge of a few id lists instead
+ * of a scan through every description.
+ *
+ * Like the list it mirrors, this is not thread-safe.
+ */
+public class DescriptionIndex {
+
+    private final Map<String, PostingList> postingsByWord = new HashMap<>();
+
+    /**
+     * Creates an index of the entries in {@code entries}, which follows entries as they are added to and removed
+     * from it. Every entry in the list must have an id.
+     */
+    public DescriptionIndex(ObservableList<? extends Entry> entries) {
+        requireNonNull(entries);
+        entries.forEach(this::add);
+        entries.addListener(this::onEntriesChanged);
+    }
+
+    /**
+     * Returns the distinct words of {@code description}, lower-cased, where words are separated by whitespace.
+     */
+    public static Set<String> wordsOf(String description) {
+        Set<String> words = new HashSet<>();
+        int start = -1;
+        for (int i = 0; i <= description.length(); i++) {
+            boolean isBoundary = i == description.length() || Character.isWhitespace(description.charAt(i));
+            if (isBoundary && start >= 0) {
+                words.add(description.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            } else if (!isBoundary && start < 0) {
+                start = i;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the ids of the entries whose description has at least one of {@code keywords}, in ascending order.
+     * Keywords are matched as whole words, ignoring case.
+     */
+    public long[] idsWithAnyWord(Collection<String> keywords) {
+        long[] union = new long[0];
+        for (PostingList postings : postingsOf(wordsOf(keywords))) {
+            union = PostingList.union(union, postings.ids, postings.size);
+        }
+        return union;
+    }
+
+    /**
+     * Returns an upper bound on the number of entries whose description has at least one of {@code keywords},
+     * without collecting their ids.
+     */
+    public int countWithAnyWord(Collection<String> keywords) {
+        int count = 0;
+        for (PostingList postings : postingsOf(wordsOf(keywords))) {
+            count += postings.size;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the ids of the entries whose description has every one of {@code keywords}, in ascending order.
+     * Keywords are matched as whole words, ignoring case.
+     */
+    public long[] idsWithEveryWord(Collection<String> keywords) {
+        Set<String> words = wordsOf(keywords);
+        List<PostingList> postings = postingsOf(words);
+        if (words.isEmpty() || postings.size() < words.size()) {
+            // some word is in no description
+            return new long[0];
+        }
+        // the shortest list bounds the result, so it goes first and keeps every intersection small
+        postings.sort(Comparator.comparingInt(list -> list.size));
+        long[] intersection = Arrays.copyOf(postings.get(0).ids, postings.get(0).size);
+        for (PostingList list : postings.subList(1, postings.size())) {
+            intersection = intersect(intersection, list.ids, list.size);
+        }
+        return intersection;
+    }
+
+    /**
+     * Returns a predicate that accepts the entries whose description has at least one of {@code keywords}, as they
+     * are now. The predicate looks up ids in the result rather than reading descriptions.
+     */
+    public <T extends Entry> Predicate<T> matchingAnyWord(Collection<String> keywords) {
+        long[] ids = idsWithAnyWord(keywords);
+        return entry -> Arrays.binarySearch(ids, entry.getId()) >= 0;
+    }
+
+    private static Set<String> wordsOf(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return wordsOf(String.join(" ", keywords));
+    }
+
+    /**
+     * Returns the posting lists of the words among {@code words} that are in the index.
+     */
+    private List<PostingList> postingsOf(Set<String> words) {
+        List<PostingList> postings = new ArrayList<>();
+        for (String word : words) {
+            PostingList list = postingsByWord.get(word);
+            if (list != null) {
+                postings.add(list);
+            }
+        }
+        return postings;
+    }
+
+    private static long[] intersect(long[] a, long[] b, int bSize) {
+        long[] common = new long[Math.min(a.length, bSize)];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < a.length && j < bSize) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (b[j] < a[i]) {
+                j++;
+            } else {
+                common[size++] = a[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(common, size);
+    }
+
+    //// maintenance
+
+    private void onEntriesChanged(ListChangeListener.Change<? extends Entry> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Entry entry) {
+        assert entry.getId() != Entry.NO_ID : "entries must be given an id before they are indexed";
+        for (String word : wordsOf(entry.getDesc().fullDesc)) {
+            postingsByWord.computeIfAbsent(word, unused -> new PostingList()).add(entry.getId());
+        }
+    }
+
+    private void remove(Entry entry) {
+        for (String word : wordsOf(entry.getDesc().fullDesc)) {
+            PostingList postings = postingsByWord.get(word);
+            if (postings != null && postings.remove(entry.getId()) && postings.size == 0) {
+                postingsByWord.remove(word);
+            }
+        }
+    }
+
+}
@@ -2,25 +2,29 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents an Entry in the finance app.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * The only exception is the id, which is given to the entry once, when it is first added to an address book.
  */
 public class Entry {
 
+    /** Id of an entry that has not been given one yet. */
+    public static final long NO_ID = 0;
+
     // Identity fields
     private final Description desc;
     private final Amount amt;
     private final Date date;
     // Data fields
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
+    private long id = NO_ID;
 
     /**
      * Every field must be present and not null.
@@ -31,7 +35,31 @@ public class Entry {
         this.desc = desc;
         this.amt = amount;
         this.date = date;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+    }
+
+    /**
+     * Returns the id of this entry, which stays the same when the entry is edited or saved, or {@code NO_ID} if
+     * it has not been given one yet.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Gives this entry the id {@code id}.
+     *
+     * @throws IllegalStateException if the entry already has a different id.
+     */
+    public void setId(long id) {
+        if (this.id == id) {
+            // not written again, so that other threads may read the id of an entry in a saved snapshot
+            return;
+        }
+        if (this.id != NO_ID) {
+            throw new IllegalStateException("Entry already has id " + this.id);
+        }
+        this.id = id;
     }
 
     public Description getDesc() {
@@ -54,8 +82,8 @@ public class Entry {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     /**
@@ -0,0 +1,150 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes of the dates, amounts and tags of a list of entries, for finding the entries in a range of dates or
+ * amounts, or with a tag, without looking at the others.
+ *
+ * Each index maps a value to the ids of the entries that have it, as in {@link DescriptionIndex}; the date and amount
+ * indexes are ordered by value so that a range is a contiguous run of them. The indexes are kept up to date as the
+ * list changes. Every lookup has a count that can be had without collecting any ids, for choosing which index to use.
+ *
+ * Like the list it mirrors, this is not thread-safe.
+ */
+public class EntryAttributeIndex {
+
+    private final NavigableMap<Long, PostingList> idsByEpochDay = new TreeMap<>();
+    private final NavigableMap<Long, PostingList> idsByCents = new TreeMap<>();
+    private final Map<Tag, PostingList> idsByTag = new HashMap<>();
+
+    /**
+     * Creates indexes of the entries in {@code entries}, which follow entries as they are added to and removed from
+     * it. Every entry in the list must have an id.
+     */
+    public EntryAttributeIndex(ObservableList<? extends Entry> entries) {
+        requireNonNull(entries);
+        entries.forEach(this::add);
+        entries.addListener(this::onEntriesChanged);
+    }
+
+    /**
+     * Returns the number of entries dated from {@code fromEpochDay} to {@code toEpochDay}, both inclusive.
+     */
+    public int countDatedBetween(long fromEpochDay, long toEpochDay) {
+        return count(rangeOf(idsByEpochDay, fromEpochDay, toEpochDay).values());
+    }
+
+    /**
+     * Returns the ids of the entries dated from {@code fromEpochDay} to {@code toEpochDay}, both inclusive, in
+     * ascending order.
+     */
+    public long[] idsDatedBetween(long fromEpochDay, long toEpochDay) {
+        return idsOf(rangeOf(idsByEpochDay, fromEpochDay, toEpochDay).values());
+    }
+
+    /**
+     * Returns the number of entries of {@code fromCents} to {@code toCents}, both inclusive.
+     */
+    public int countWithAmountBetween(long fromCents, long toCents) {
+        return count(rangeOf(idsByCents, fromCents, toCents).values());
+    }
+
+    /**
+     * Returns the ids of the entries of {@code fromCents} to {@code toCents}, both inclusive, in ascending order.
+     */
+    public long[] idsWithAmountBetween(long fromCents, long toCents) {
+        return idsOf(rangeOf(idsByCents, fromCents, toCents).values());
+    }
+
+    /**
+     * Returns the number of entries tagged with {@code tag}.
+     */
+    public int countWithTag(Tag tag) {
+        PostingList postings = idsByTag.get(tag);
+        return postings == null ? 0 : postings.size;
+    }
+
+    /**
+     * Returns the ids of the entries tagged with {@code tag}, in ascending order.
+     */
+    public long[] idsWithTag(Tag tag) {
+        PostingList postings = idsByTag.get(tag);
+        return postings == null ? new long[0] : Arrays.copyOf(postings.ids, postings.size);
+    }
+
+    private static NavigableMap<Long, PostingList> rangeOf(NavigableMap<Long, PostingList> index, long from,
+                                                          long to) {
+        return from > to ? new TreeMap<>() : index.subMap(from, true, to, true);
+    }
+
+    private static int count(Collection<PostingList> postings) {
+        int count = 0;
+        for (PostingList list : postings) {
+            count += list.size;
+        }
+        return count;
+    }
+
+    private static long[] idsOf(Collection<PostingList> postings) {
+        long[] ids = new long[count(postings)];
+        int size = 0;
+        for (PostingList list : postings) {
+            System.arraycopy(list.ids, 0, ids, size, list.size);
+            size += list.size;
+        }
+        // each list is in order, but lists for different values overlap in id
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    //// maintenance
+
+    private void onEntriesChanged(ListChangeListener.Change<? extends Entry> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Entry entry) {
+        assert entry.getId() != Entry.NO_ID : "entries must be given an id before they are indexed";
+        long id = entry.getId();
+        idsByEpochDay.computeIfAbsent(entry.getDate().getEpochDay(), unused -> new PostingList()).add(id);
+        idsByCents.computeIfAbsent(entry.getAmount().getCents(), unused -> new PostingList()).add(id);
+        for (Tag tag : entry.getTags()) {
+            idsByTag.computeIfAbsent(tag, unused -> new PostingList()).add(id);
+        }
+    }
+
+    private void remove(Entry entry) {
+        long id = entry.getId();
+        removeFrom(idsByEpochDay, entry.getDate().getEpochDay(), id);
+        removeFrom(idsByCents, entry.getAmount().getCents(), id);
+        for (Tag tag : entry.getTags()) {
+            removeFrom(idsByTag, tag, id);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, PostingList> index, K key, long id) {
+        PostingList postings = index.get(key);
+        if (postings != null && postings.remove(id) && postings.size == 0) {
+            index.remove(key);
+        }
+    }
+
+}
@@ -0,0 +1,402 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * A columnar mirror of a list of entries, for sums, counts and group-bys over large histories.
+ *
+ * Row {@code i} holds the entry at index {@code i} of the list, spread over primitive columns: the amount in cents,
+ * the date as an epoch day, the type code and a bitmap of the tags, with one bit per tag id (see {@link Tag#getId()}).
+ * The columns are kept up to date as the list changes, so an aggregate is a single loop over primitive arrays instead
+ * of a walk through the entries and their fields.
+ *
+ * Like the list it mirrors, this is not thread-safe.
+ */
+public class EntryColumns {
+
+    /**
+     * The kinds of entry, whose ordinals are the type codes stored in the columns.
+     */
+    public enum Type {
+        EXPENSE, INCOME, WISH, AUTO_EXPENSE, OTHER;
+
+        /**
+         * Returns the type of {@code entry}.
+         */
+        public static Type of(Entry entry) {
+            if (entry instanceof Expense) {
+                return EXPENSE;
+            } else if (entry instanceof Income) {
+                return INCOME;
+            } else if (entry instanceof Wish) {
+                return WISH;
+            } else if (entry instanceof AutoExpense) {
+                return AUTO_EXPENSE;
+            }
+            return OTHER;
+        }
+    }
+
+    private static final Type[] TYPES = Type.values();
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int size = 0;
+    private long[] amounts = new long[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private int[] typeCodes = new int[INITIAL_CAPACITY];
+    /**
+     * The tag bitmap of row {@code i} is {@code tagWordsPerRow} words starting at {@code i * tagWordsPerRow}, laid
+     * out as the words of the entry's {@link TagSet}.
+     */
+    private long[] tagBitmaps = new long[INITIAL_CAPACITY];
+    private int tagWordsPerRow = 1;
+
+    /**
+     * Creates the columns of {@code entries} and keeps them up to date as the list changes.
+     */
+    public EntryColumns(ObservableList<? extends Entry> entries) {
+        requireNonNull(entries);
+        insertRows(0, entries);
+        entries.addListener(this::onEntriesChanged);
+    }
+
+    private void onEntriesChanged(ListChangeListener.Change<? extends Entry> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permuteRows(change);
+            } else if (change.wasUpdated()) {
+                for (int row = change.getFrom(); row < change.getTo(); row++) {
+                    writeRow(row, change.getList().get(row));
+                }
+            } else {
+                removeRows(change.getFrom(), change.getRemovedSize());
+                insertRows(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+
+    //// queries
+
+    /**
+     * Returns the number of rows, which is the number of entries in the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of entries that match {@code criteria}.
+     */
+    public int count(Criteria criteria) {
+        long[] tagMask = tagMaskOf(criteria);
+        if (tagMask == null) {
+            return 0;
+        }
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (matches(row, criteria, tagMask)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the total amount of the entries that match {@code criteria}.
+     */
+    public Amount sum(Criteria criteria) {
+        long[] tagMask = tagMaskOf(criteria);
+        if (tagMask == null) {
+            return Amount.ofCents(0);
+        }
+        long cents = 0;
+        for (int row = 0; row < size; row++) {
+            if (matches(row, criteria, tagMask)) {
+                cents = Math.addExact(cents, amounts[row]);
+            }
+        }
+        return Amount.ofCents(cents);
+    }
+
+    /**
+     * Returns the total amount of the entries that match {@code criteria} for each type that has any.
+     */
+    public Map<Type, Amount> sumByType(Criteria criteria) {
+        Map<Type, Amount> sums = new EnumMap<>(Type.class);
+        long[] tagMask = tagMaskOf(criteria);
+        if (tagMask == null) {
+            return sums;
+        }
+        long[] cents = new long[TYPES.length];
+        boolean[] isPresent = new boolean[TYPES.length];
+        for (int row = 0; row < size; row++) {
+            if (matches(row, criteria, tagMask)) {
+                cents[typeCodes[row]] = Math.addExact(cents[typeCodes[row]], amounts[row]);
+                isPresent[typeCodes[row]] = true;
+            }
+        }
+        for (Type type : TYPES) {
+            if (isPresent[type.ordinal()]) {
+                sums.put(type, Amount.ofCents(cents[type.ordinal()]));
+            }
+        }
+        return sums;
+    }
+
+    /**
+     * Returns the total amount of the entries that match {@code criteria} for each month that has any, in order.
+     */
+    public Map<YearMonth, Amount> sumByMonth(Criteria criteria) {
+        Map<YearMonth, long[]> cents = new TreeMap<>();
+        long[] tagMask = tagMaskOf(criteria);
+        if (tagMask != null) {
+            // rows of the same month tend to be next to each other, so the month of the last row is kept at hand
+            long monthStart = 1;
+            long monthEnd = 0;
+            long[] monthCents = null;
+            for (int row = 0; row < size; row++) {
+                if (!matches(row, criteria, tagMask)) {
+                    continue;
+                }
+                int day = epochDays[row];
+                if (day < monthStart || day > monthEnd) {
+                    YearMonth month = YearMonth.from(LocalDate.ofEpochDay(day));
+                    monthStart = month.atDay(1).toEpochDay();
+                    monthEnd = month.atEndOfMonth().toEpochDay();
+                    monthCents = cents.computeIfAbsent(month, unused -> new long[1]);
+                }
+                monthCents[0] = Math.addExact(monthCents[0], amounts[row]);
+            }
+        }
+
+        Map<YearMonth, Amount> sums = new LinkedHashMap<>();
+        cents.forEach((month, total) -> sums.put(month, Amount.ofCents(total[0])));
+        return sums;
+    }
+
+    /**
+     * Returns the total amount of the entries that match {@code criteria} for each tag that any of them has.
+     * An entry with several tags counts towards each of them.
+     */
+    public Map<Tag, Amount> sumByTag(Criteria criteria) {
+        Map<Tag, Amount> sums = new LinkedHashMap<>();
+        long[] tagMask = tagMaskOf(criteria);
+        if (tagMask == null) {
+            return sums;
+        }
+        long[] cents = new long[tagWordsPerRow * Long.SIZE];
+        boolean[] isPresent = new boolean[cents.length];
+        for (int row = 0; row < size; row++) {
+            if (!matches(row, criteria, tagMask)) {
+                continue;
+            }
+            int base = row * tagWordsPerRow;
+            for (int word = 0; word < tagWordsPerRow; word++) {
+                for (long bits = tagBitmaps[base + word]; bits != 0; bits &= bits - 1) {
+                    int bit = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                    cents[bit] = Math.addExact(cents[bit], amounts[row]);
+                    isPresent[bit] = true;
+                }
+            }
+        }
+        for (int bit = 0; bit < cents.length; bit++) {
+            if (isPresent[bit]) {
+                sums.put(Tag.withId(bit), Amount.ofCents(cents[bit]));
+            }
+        }
+        return sums;
+    }
+
+    /**
+     * Returns the tag bitmap that a row must share a bit with to match {@code criteria}, an empty array if the
+     * criteria do not filter by tag, or null if no row can match since the tag's bit is past every bitmap.
+     */
+    private long[] tagMaskOf(Criteria criteria) {
+        requireNonNull(criteria);
+        if (criteria.tag == null) {
+            return new long[0];
+        }
+        int bit = criteria.tag.getId();
+        if (bit / Long.SIZE >= tagWordsPerRow) {
+            return null;
+        }
+        long[] mask = new long[tagWordsPerRow];
+        mask[bit / Long.SIZE] = 1L << (bit % Long.SIZE);
+        return mask;
+    }
+
+    private boolean matches(int row, Criteria criteria, long[] tagMask) {
+        if ((criteria.typeMask & (1 << typeCodes[row])) == 0
+                || epochDays[row] < criteria.fromEpochDay || epochDays[row] > criteria.toEpochDay) {
+            return false;
+        }
+        if (tagMask.length == 0) {
+            return true;
+        }
+        int base = row * tagWordsPerRow;
+        for (int word = 0; word < tagMask.length; word++) {
+            if ((tagBitmaps[base + word] & tagMask[word]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //// maintenance
+
+    private void insertRows(int from, List<? extends Entry> entries) {
+        int count = entries.size();
+        if (count == 0) {
+            return;
+        }
+        ensureCapacity(size + count);
+        int moved = size - from;
+        System.arraycopy(amounts, from, amounts, from + count, moved);
+        System.arraycopy(epochDays, from, epochDays, from + count, moved);
+        System.arraycopy(typeCodes, from, typeCodes, from + count, moved);
+        System.arraycopy(tagBitmaps, from * tagWordsPerRow, tagBitmaps, (from + count) * tagWordsPerRow,
+                moved * tagWordsPerRow);
+        size += count;
+        for (int i = 0; i < count; i++) {
+            writeRow(from + i, entries.get(i));
+        }
+    }
+
+    private void removeRows(int from, int count) {
+        if (count == 0) {
+            return;
+        }
+        int moved = size - from - count;
+        System.arraycopy(amounts, from + count, amounts, from, moved);
+        System.arraycopy(epochDays, from + count, epochDays, from, moved);
+        System.arraycopy(typeCodes, from + count, typeCodes, from, moved);
+        System.arraycopy(tagBitmaps, (from + count) * tagWordsPerRow, tagBitmaps, from * tagWordsPerRow,
+                moved * tagWordsPerRow);
+        size -= count;
+    }
+
+    private void permuteRows(ListChangeListener.Change<? extends Entry> change) {
+        int from = change.getFrom();
+        int to = change.getTo();
+        long[] oldAmounts = Arrays.copyOfRange(amounts, from, to);
+        int[] oldEpochDays = Arrays.copyOfRange(epochDays, from, to);
+        int[] oldTypeCodes = Arrays.copyOfRange(typeCodes, from, to);
+        long[] oldTagBitmaps = Arrays.copyOfRange(tagBitmaps, from * tagWordsPerRow, to * tagWordsPerRow);
+        for (int oldRow = from; oldRow < to; oldRow++) {
+            int newRow = change.getPermutation(oldRow);
+            amounts[newRow] = oldAmounts[oldRow - from];
+            epochDays[newRow] = oldEpochDays[oldRow - from];
+            typeCodes[newRow] = oldTypeCodes[oldRow - from];
+            System.arraycopy(oldTagBitmaps, (oldRow - from) * tagWordsPerRow, tagBitmaps, newRow * tagWordsPerRow,
+                    tagWordsPerRow);
+        }
+    }
+
+    private void writeRow(int row, Entry entry) {
+        amounts[row] = entry.getAmount().getCents();
+        epochDays[row] = Math.toIntExact(entry.getDate().getEpochDay());
+        typeCodes[row] = Type.of(entry).ordinal();
+
+        TagSet tags = entry.getTags();
+        if (tags.wordCount() > tagWordsPerRow) {
+            widenTagBitmaps(Math.max(tags.wordCount(), tagWordsPerRow * 2));
+        }
+        int base = row * tagWordsPerRow;
+        for (int word = 0; word < tagWordsPerRow; word++) {
+            tagBitmaps[base + word] = word < tags.wordCount() ? tags.word(word) : 0;
+        }
+    }
+
+    private void widenTagBitmaps(int newWordsPerRow) {
+        long[] widened = new long[amounts.length * newWordsPerRow];
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(tagBitmaps, row * tagWordsPerRow, widened, row * newWordsPerRow, tagWordsPerRow);
+        }
+        tagBitmaps = widened;
+        tagWordsPerRow = newWordsPerRow;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= amounts.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, amounts.length * 2);
+        amounts = Arrays.copyOf(amounts, newCapacity);
+        epochDays = Arrays.copyOf(epochDays, newCapacity);
+        typeCodes = Arrays.copyOf(typeCodes, newCapacity);
+        tagBitmaps = Arrays.copyOf(tagBitmaps, newCapacity * tagWordsPerRow);
+    }
+
+    /**
+     * The entries that a query covers: those of the given types, dated within the given range and, if a tag is
+     * given, having that tag. Criteria are immutable; each {@code with} method returns narrowed criteria.
+     */
+    public static class Criteria {
+
+        private static final Criteria ALL = new Criteria((1 << TYPES.length) - 1, Integer.MIN_VALUE,
+                Integer.MAX_VALUE, null);
+
+        private final int typeMask;
+        private final int fromEpochDay;
+        private final int toEpochDay;
+        private final Tag tag;
+
+        private Criteria(int typeMask, int fromEpochDay, int toEpochDay, Tag tag) {
+            this.typeMask = typeMask;
+            this.fromEpochDay = fromEpochDay;
+            this.toEpochDay = toEpochDay;
+            this.tag = tag;
+        }
+
+        /**
+         * Returns criteria that cover every entry.
+         */
+        public static Criteria all() {
+            return ALL;
+        }
+
+        /**
+         * Returns these criteria, limited to entries of one of {@code types}.
+         */
+        public Criteria withTypes(Type... types) {
+            int mask = 0;
+            for (Type type : types) {
+                mask |= 1 << type.ordinal();
+            }
+            return new Criteria(typeMask & mask, fromEpochDay, toEpochDay, tag);
+        }
+
+        /**
+         * Returns these criteria, limited to entries dated from {@code from} to {@code to}, both inclusive.
+         */
+        public Criteria withDates(LocalDate from, LocalDate to) {
+            requireNonNull(from);
+            requireNonNull(to);
+            return new Criteria(typeMask, Math.max(fromEpochDay, Math.toIntExact(from.toEpochDay())),
+                    Math.min(toEpochDay, Math.toIntExact(to.toEpochDay())), tag);
+        }
+
+        /**
+         * Returns these criteria, limited to entries tagged with {@code tag}, in place of any tag given before.
+         */
+        public Criteria withTag(Tag tag) {
+            requireNonNull(tag);
+            return new Criteria(typeMask, fromEpochDay, toEpochDay, tag);
+        }
+    }
+
+}
@@ -4,24 +4,24 @@ import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class ExpenseContainsTagPredicate implements Predicate<Expense> {
-    private final Set<Tag> tags;
+    private final TagSet tags;
 
     public ExpenseContainsTagPredicate(Set<Tag> tags) {
-        this.tags = tags;
+        this.tags = TagSet.of(tags);
     }
 
-    public Set<Tag> getTags() {
+    public TagSet getTags() {
         return tags;
     }
     @Override
     public boolean test(Expense entry) {
-        return tags.stream()
-                .anyMatch(tag -> entry.getTags().contains(tag));
+        return tags.intersects(entry.getTags());
     }
 
     @Override
@@ -31,4 +31,9 @@ public class ExpenseContainsTagPredicate implements Predicate<Expense> {
                 && tags.equals(((ExpenseContainsTagPredicate) other).tags)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return tags.hashCode();
+    }
+
 }
@@ -1,21 +1,50 @@
 package seedu.address.model.person;
 
+import java.util.function.LongConsumer;
+
 /**
  * Implement expense reminder
+ * The reminder follows the amount of its tracker, and is activated when that reaches the quota.
+ * The quota is in whole dollars, while the sum followed is in cents.
  */
 public class ExpenseReminder extends Reminder {
     private long currSum;
     private long quota;
     private ExpenseTracker tracker;
+    private final LongConsumer amountTracker = this::updateStatus;
+    private boolean isFollowingTracker = false;
 
     public ExpenseReminder(String message, long quota, ExpenseTracker tracker) {
         super(message);
         this.tracker = tracker;
         this.quota = quota;
-        currSum = tracker.getAmount();
+        followTracker();
+    }
+
+    /**
+     * Starts following the amount of the tracker again, if it stopped, catching up with any change made since.
+     */
+    public void followTracker() {
+        if (!isFollowingTracker) {
+            tracker.addAmountListener(amountTracker);
+            isFollowingTracker = true;
+        }
+        updateStatus(tracker.getAmount());
+    }
+
+    /**
+     * Stops following the amount of the tracker, so that a reminder that has been removed or replaced is no longer
+     * kept up to date by it.
+     */
+    public void unfollowTracker() {
+        tracker.removeAmountListener(amountTracker);
+        isFollowingTracker = false;
     }
 
 
+    /**
+     * Returns the amount of the tracker, in cents.
+     */
     public long getSum() {
         return currSum;
     }
@@ -29,11 +58,15 @@ public class ExpenseReminder extends Reminder {
     }
 
     /**
-     *checks status of reminder. i.e. should reminder trigger.
+     * Updates the status of the reminder when the amount of its tracker changes to {@code amount}.
      */
-    public void updateStatus() {
-        currSum = tracker.getAmount();
-        super.setStatus(currSum >= quota);
+    private void updateStatus(long amount) {
+        currSum = amount;
+        super.setStatus(isOverQuota());
+    }
+
+    private boolean isOverQuota() {
+        return currSum >= quota * Amount.CENTS_PER_DOLLAR;
     }
 
     @Override
@@ -3,13 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.model.person.exceptions.DuplicateEntryException;
 import seedu.address.model.person.exceptions.EntryNotFoundException;
 
@@ -22,12 +25,25 @@ import seedu.address.model.person.exceptions.EntryNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The list listens to the status of every reminder in it. The reminders that are activated are kept in a
+ * separate list as they change, and every activation and deactivation is passed on to the status listeners
+ * of the list. Reminders that have been given an id are also indexed by it.
  */
 public class ExpenseReminderList implements Iterable<ExpenseReminder> {
 
     private final ObservableList<ExpenseReminder> internalList = FXCollections.observableArrayList();
     private final ObservableList<ExpenseReminder> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final ObservableList<ExpenseReminder> activeList = FXCollections.observableArrayList();
+    private final ObservableList<ExpenseReminder> activeUnmodifiableList =
+            FXCollections.unmodifiableObservableList(activeList);
+    private final Map<Long, ExpenseReminder> remindersById = new HashMap<>();
+    private final List<ReminderStatusListener> statusListeners = new ArrayList<>();
+    private final ReminderStatusListener statusTracker = this::onStatusChanged;
+
+    public ExpenseReminderList() {
+        internalList.addListener(this::onRemindersChanged);
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -37,6 +53,13 @@ public class ExpenseReminderList implements Iterable<ExpenseReminder> {
         return internalList.stream().anyMatch(toCheck::isSameReminder);
     }
 
+    /**
+     * Returns the reminder in the list with the id {@code id}, if there is one.
+     */
+    public Optional<ExpenseReminder> getById(long id) {
+        return Optional.ofNullable(remindersById.get(id));
+    }
+
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
@@ -94,21 +117,56 @@ public class ExpenseReminderList implements Iterable<ExpenseReminder> {
     }
 
     /**
-     * updates the status of all reminders in ExpenseReminderList
+     * Get list of reminders to be displayed on main page.
+     * The list holds the activated reminders, in the order they were activated, and is updated as they change.
      */
-    public void updateList() {
-        for (ExpenseReminder reminder : internalList) {
-            reminder.updateStatus();
-        }
+    public ObservableList<ExpenseReminder> getDisplay() {
+        return activeUnmodifiableList;
     }
 
     /**
-     * Get list of reminders to be displayed on main page.
+     * Adds a listener that is told whenever a reminder in this list is activated or deactivated.
      */
-    public ObservableList<ExpenseReminder> getDisplay() {
-        FilteredList<ExpenseReminder> displayList = new FilteredList<>(this.asUnmodifiableObservableList());
-        displayList.setPredicate(new ExpenseReminderIsActive());
-        return displayList;
+    public void addStatusListener(ReminderStatusListener listener) {
+        requireNonNull(listener);
+        statusListeners.add(listener);
+    }
+
+    private void onRemindersChanged(ListChangeListener.Change<? extends ExpenseReminder> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (ExpenseReminder removed : change.getRemoved()) {
+                removed.removeStatusListener(statusTracker);
+                removed.unfollowTracker();
+                remindersById.remove(removed.getId(), removed);
+                activeList.remove(removed);
+            }
+            for (ExpenseReminder added : change.getAddedSubList()) {
+                // caught up before listening, so the activeList check below sees its current status
+                added.followTracker();
+                added.addStatusListener(statusTracker);
+                if (added.getId() != Reminder.NO_ID) {
+                    remindersById.put(added.getId(), added);
+                }
+                if (added.getStatus()) {
+                    activeList.add(added);
+                }
+            }
+        }
+    }
+
+    private void onStatusChanged(Reminder reminder) {
+        ExpenseReminder expenseReminder = (ExpenseReminder) reminder;
+        if (expenseReminder.getStatus()) {
+            activeList.add(expenseReminder);
+        } else {
+            activeList.remove(expenseReminder);
+        }
+        for (ReminderStatusListener listener : statusListeners) {
+            listener.statusChanged(reminder);
+        }
     }
 
     /**
@@ -136,12 +194,3 @@ public class ExpenseReminderList implements Iterable<ExpenseReminder> {
     }
 }
 
-/**
- * Predicate to filter reminders to be displayed.
- */
-class ExpenseReminderIsActive implements Predicate<ExpenseReminder> {
-    @Override
-    public boolean test(ExpenseReminder entry) {
-        return entry.getStatus();
-    }
-}
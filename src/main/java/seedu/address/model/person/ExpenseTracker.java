@@ -1,12 +1,17 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
 
 /**
  * Expense Tracker used by expense reminder to trigger reminder.
+ * The amount is the total of the expenses tracked, in cents. Listeners are given the new amount whenever it changes.
  */
 public class ExpenseTracker {
     private long currAmount;
     private ExpenseContainsTagPredicate predicate;
+    private final List<LongConsumer> amountListeners = new ArrayList<>();
 
     public ExpenseTracker(ExpenseContainsTagPredicate predicate) {
         this.predicate = predicate;
@@ -17,8 +22,25 @@ public class ExpenseTracker {
         return currAmount;
     }
 
+    /**
+     * Sets the amount tracked, telling the listeners if it changed.
+     */
     public void setAmount(long newAmt) {
+        if (currAmount == newAmt) {
+            return;
+        }
         currAmount = newAmt;
+        for (LongConsumer listener : new ArrayList<>(amountListeners)) {
+            listener.accept(newAmt);
+        }
+    }
+
+    public void addAmountListener(LongConsumer listener) {
+        amountListeners.add(listener);
+    }
+
+    public void removeAmountListener(LongConsumer listener) {
+        amountListeners.remove(listener);
     }
 
     public ExpenseContainsTagPredicate getPredicate() {
@@ -54,9 +54,7 @@ public class ExpenseTrackerList implements Iterable<ExpenseTracker> {
             throw new EntryNotFoundException();
         }
 
-        if (target.equals(editedTracker) || !contains(editedTracker)) {
-            internalList.set(index, editedTracker);
-        }
+        internalList.set(index, editedTracker);
     }
 
     /**
@@ -1,37 +1,108 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Manages ExpenseTrackerList. Will be instantiated inside Object Manager and Address Book.
+ * Keeps the amount of every tracker up to date as expenses and trackers are added, edited and removed.
+ * Trackers are indexed by the tags they watch, so a change to an expense only updates the trackers watching
+ * one of its tags, by the amount of that expense. Amounts are summed exactly, in cents.
  */
 public class ExpenseTrackerManager {
-    private FilteredList<ExpenseTracker> trackerList;
-
-
+    private final ObservableList<ExpenseTracker> trackerList;
+    private final ObservableList<Expense> expenses;
+    private final Map<Tag, Set<ExpenseTracker>> trackersByTag = new HashMap<>();
 
-    public ExpenseTrackerManager(ObservableList<ExpenseTracker> trackerList) {
-        this.trackerList = new FilteredList<>(trackerList);
+    public ExpenseTrackerManager(ObservableList<ExpenseTracker> trackerList, ObservableList<Expense> expenses) {
+        requireAllNonNull(trackerList, expenses);
+        this.trackerList = trackerList;
+        this.expenses = expenses;
+        trackerList.forEach(this::startTracking);
+        trackerList.addListener(this::onTrackersChanged);
+        expenses.addListener(this::onExpensesChanged);
     }
 
-
     public ObservableList<ExpenseTracker> getList() {
         return trackerList;
     }
 
+    private void onTrackersChanged(ListChangeListener.Change<? extends ExpenseTracker> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::stopTracking);
+            change.getAddedSubList().forEach(this::startTracking);
+        }
+    }
+
+    private void onExpensesChanged(ListChangeListener.Change<? extends Expense> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Expense removed : change.getRemoved()) {
+                adjustTrackersOf(removed, -amountOf(removed));
+            }
+            for (Expense added : change.getAddedSubList()) {
+                adjustTrackersOf(added, amountOf(added));
+            }
+        }
+    }
+
     /**
-     * Iterates through list of trackers, and see which tracker(s) are keeping track of this event.
-     * @param filteredExpenses
+     * Indexes {@code tracker} under the tags it watches and sets its amount from the current expenses.
      */
-    public void track(FilteredList<Expense> filteredExpenses) {
-        for (ExpenseTracker tracker : trackerList) {
-            long newAmt = 0;
-            filteredExpenses.setPredicate(tracker.getPredicate());
-            for (Expense expense : filteredExpenses) {
-                newAmt += expense.getAmount().value;
+    private void startTracking(ExpenseTracker tracker) {
+        for (Tag tag : tracker.getPredicate().getTags()) {
+            trackersByTag.computeIfAbsent(tag, unused -> new LinkedHashSet<>()).add(tracker);
+        }
+        long amount = 0;
+        for (Expense expense : expenses) {
+            if (tracker.getPredicate().test(expense)) {
+                amount += amountOf(expense);
+            }
+        }
+        tracker.setAmount(amount);
+    }
+
+    private void stopTracking(ExpenseTracker tracker) {
+        for (Tag tag : tracker.getPredicate().getTags()) {
+            Set<ExpenseTracker> trackers = trackersByTag.get(tag);
+            if (trackers == null) {
+                continue;
+            }
+            trackers.remove(tracker);
+            if (trackers.isEmpty()) {
+                trackersByTag.remove(tag);
             }
-            tracker.setAmount(newAmt);
         }
     }
+
+    /**
+     * Adds {@code delta} to every tracker watching at least one of the tags of {@code expense}, once per tracker.
+     */
+    private void adjustTrackersOf(Expense expense, long delta) {
+        Set<ExpenseTracker> affected = new LinkedHashSet<>();
+        for (Tag tag : expense.getTags()) {
+            affected.addAll(trackersByTag.getOrDefault(tag, Set.of()));
+        }
+        for (ExpenseTracker tracker : affected) {
+            tracker.setAmount(tracker.getAmount() + delta);
+        }
+    }
+
+    private static long amountOf(Expense expense) {
+        return expense.getAmount().getCents();
+    }
+
 }
@@ -0,0 +1,294 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index of the words in the descriptions of a list of entries and the names of their tags, for finding entries
+ * by partial or misspelt words.
+ *
+ * Each distinct word, lower-cased, is a term that maps to the ids of the entries that have it, as in
+ * {@link DescriptionIndex}. The terms are also held in a character trie, to find the terms that start with a keyword,
+ * and under each of their trigrams, to find the terms a small edit distance from a keyword. Only the terms that
+ * share enough trigrams with a keyword are compared with it, so a search only touches the terms near a keyword and
+ * the entries that have them. A swap of two adjacent letters counts as one edit, and since it can change every
+ * trigram of a short keyword, the terms one swap away are also looked up directly.
+ *
+ * Like the list it mirrors, this is not thread-safe.
+ */
+public class FuzzySearchIndex {
+
+    /** Score of a term that is a keyword, starts with it, or is a few edits from it. Better matches score more. */
+    private static final int EXACT_SCORE = 3;
+    private static final int PREFIX_SCORE = 2;
+    private static final int TYPO_SCORE = 1;
+    /** Keywords up to this long may be one edit from a term; longer ones may be two. */
+    private static final int SHORT_KEYWORD_LENGTH = 4;
+    /** An edit changes at most this many of the trigrams of a word. */
+    private static final int TRIGRAMS_PER_EDIT = 3;
+    /** Marks the ends of a term, so that its first and last characters start and end trigrams of their own. */
+    private static final char PADDING = '\0';
+
+    private final Map<String, PostingList> postingsByTerm = new HashMap<>();
+    private final TrieNode trieRoot = new TrieNode();
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+
+    /**
+     * Creates an index of the entries in {@code entries}, which follows entries as they are added to and removed
+     * from it. Every entry in the list must have an id.
+     */
+    public FuzzySearchIndex(ObservableList<? extends Entry> entries) {
+        requireNonNull(entries);
+        entries.forEach(this::add);
+        entries.addListener(this::onEntriesChanged);
+    }
+
+    /**
+     * Returns the ids of the entries that match at least one of {@code keywords}, best match first.
+     *
+     * An entry scores for each keyword by its best term: most for a term that is the keyword, less for one that
+     * starts with it, and least for one a few edits away. Entries with the same total keep ascending id order.
+     */
+    public long[] rankedIdsMatchingAnyWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Map<Long, Integer> scores = new HashMap<>();
+        for (String keyword : DescriptionIndex.wordsOf(String.join(" ", keywords))) {
+            Map<Long, Integer> keywordScores = new HashMap<>();
+            matchingTerms(keyword).forEach((term, score) -> {
+                PostingList postings = postingsByTerm.get(term);
+                for (int i = 0; i < postings.size; i++) {
+                    keywordScores.merge(postings.ids[i], score, Math::max);
+                }
+            });
+            keywordScores.forEach((id, score) -> scores.merge(id, score, Integer::sum));
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .mapToLong(Map.Entry::getKey)
+                .toArray();
+    }
+
+    /**
+     * Returns a predicate that accepts the entries that match at least one of {@code keywords}, as they are now.
+     */
+    public <T extends Entry> Predicate<T> matchingAnyWord(Collection<String> keywords) {
+        long[] ids = rankedIdsMatchingAnyWord(keywords);
+        Arrays.sort(ids);
+        return entry -> Arrays.binarySearch(ids, entry.getId()) >= 0;
+    }
+
+    /**
+     * Returns the terms that match {@code keyword}, each with the score of its best match.
+     */
+    private Map<String, Integer> matchingTerms(String keyword) {
+        Map<String, Integer> matches = new HashMap<>();
+
+        TrieNode node = trieRoot;
+        for (int i = 0; i < keyword.length() && node != null; i++) {
+            node = node.children.get(keyword.charAt(i));
+        }
+        if (node != null) {
+            Deque<TrieNode> toVisit = new ArrayDeque<>();
+            toVisit.push(node);
+            while (!toVisit.isEmpty()) {
+                TrieNode visited = toVisit.pop();
+                if (visited.term != null) {
+                    matches.put(visited.term, visited == node ? EXACT_SCORE : PREFIX_SCORE);
+                }
+                visited.children.values().forEach(toVisit::push);
+            }
+        }
+
+        int maxDistance = keyword.length() <= SHORT_KEYWORD_LENGTH ? 1 : 2;
+        Set<String> trigrams = trigramsOf(keyword);
+        // a term within maxDistance edits keeps all but a few of the keyword's trigrams; short keywords can lose
+        // all of them, but a typo usually leaves one, which keeps the candidates to the terms that share it
+        int minShared = Math.max(1, trigrams.size() - TRIGRAMS_PER_EDIT * maxDistance);
+        Map<String, Integer> sharedCounts = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String term : termsByTrigram.getOrDefault(trigram, Set.of())) {
+                sharedCounts.merge(term, 1, Integer::sum);
+            }
+        }
+        sharedCounts.forEach((term, shared) -> {
+            if (shared >= minShared && !matches.containsKey(term) && isWithinDistance(keyword, term, maxDistance)) {
+                matches.put(term, TYPO_SCORE);
+            }
+        });
+        for (String swapped : adjacentSwapsOf(keyword)) {
+            if (postingsByTerm.containsKey(swapped)) {
+                matches.putIfAbsent(swapped, TYPO_SCORE);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns true if {@code a} can be turned into {@code b} with at most {@code maxDistance} single character
+     * insertions, deletions, substitutions or swaps of adjacent characters, none of which edits the same characters
+     * twice.
+     */
+    static boolean isWithinDistance(String a, String b, int maxDistance) {
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            return false;
+        }
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            // a swap reaches back two rows, but never below the row in between, so the rows cannot improve
+            if (rowMin > maxDistance) {
+                return false;
+            }
+            int[] reused = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = reused;
+        }
+        return previous[b.length()] <= maxDistance;
+    }
+
+    /**
+     * Returns the words made by swapping two adjacent, different characters of {@code keyword}.
+     */
+    private static Set<String> adjacentSwapsOf(String keyword) {
+        Set<String> swaps = new HashSet<>();
+        char[] chars = keyword.toCharArray();
+        for (int i = 0; i + 1 < chars.length; i++) {
+            if (chars[i] == chars[i + 1]) {
+                continue;
+            }
+            char swapped = chars[i];
+            chars[i] = chars[i + 1];
+            chars[i + 1] = swapped;
+            swaps.add(new String(chars));
+            chars[i + 1] = chars[i];
+            chars[i] = swapped;
+        }
+        return swaps;
+    }
+
+    private static Set<String> trigramsOf(String term) {
+        String padded = PADDING + term + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the terms of {@code entry}: the words of its description and the names of its tags, lower-cased.
+     */
+    private static Set<String> termsOf(Entry entry) {
+        Set<String> terms = DescriptionIndex.wordsOf(entry.getDesc().fullDesc);
+        for (Tag tag : entry.getTags()) {
+            terms.add(tag.tagName.toLowerCase(Locale.ROOT));
+        }
+        return terms;
+    }
+
+    //// maintenance
+
+    private void onEntriesChanged(ListChangeListener.Change<? extends Entry> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Entry entry) {
+        assert entry.getId() != Entry.NO_ID : "entries must be given an id before they are indexed";
+        for (String term : termsOf(entry)) {
+            PostingList postings = postingsByTerm.get(term);
+            if (postings == null) {
+                postings = new PostingList();
+                postingsByTerm.put(term, postings);
+                addTerm(term);
+            }
+            postings.add(entry.getId());
+        }
+    }
+
+    private void remove(Entry entry) {
+        for (String term : termsOf(entry)) {
+            PostingList postings = postingsByTerm.get(term);
+            if (postings != null && postings.remove(entry.getId()) && postings.size == 0) {
+                postingsByTerm.remove(term);
+                removeTerm(term);
+            }
+        }
+    }
+
+    private void addTerm(String term) {
+        TrieNode node = trieRoot;
+        for (int i = 0; i < term.length(); i++) {
+            node = node.children.computeIfAbsent(term.charAt(i), unused -> new TrieNode());
+        }
+        node.term = term;
+        for (String trigram : trigramsOf(term)) {
+            termsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(term);
+        }
+    }
+
+    private void removeTerm(String term) {
+        TrieNode[] path = new TrieNode[term.length() + 1];
+        path[0] = trieRoot;
+        for (int i = 0; i < term.length(); i++) {
+            path[i + 1] = path[i].children.get(term.charAt(i));
+        }
+        path[term.length()].term = null;
+        // prune the nodes that no longer lead to any term
+        for (int i = term.length(); i > 0 && path[i].term == null && path[i].children.isEmpty(); i--) {
+            path[i - 1].children.remove(term.charAt(i - 1));
+        }
+
+        for (String trigram : trigramsOf(term)) {
+            Set<String> terms = termsByTrigram.get(trigram);
+            terms.remove(term);
+            if (terms.isEmpty()) {
+                termsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * A node of the trie of terms, which ends a term if {@code term} is not null.
+     */
+    private static class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private String term;
+    }
+
+}
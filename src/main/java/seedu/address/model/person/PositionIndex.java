@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A hash index from each element of a list without duplicates to its position in that list, so that finding an
+ * element does not scan the list.
+ * The list must be changed only through the {@code before*} methods, which are called just before each change.
+ * Positions are kept up to date lazily: removing an element only marks the positions after it as stale, and those
+ * are recomputed in a single pass the next time one of them is looked up.
+ */
+class PositionIndex<T> {
+
+    private final List<T> list;
+    private final Map<T, Integer> positions = new HashMap<>();
+    /** Positions below this one are known to be up to date. */
+    private int validPositions = 0;
+
+    PositionIndex(List<T> list) {
+        this.list = list;
+    }
+
+    /**
+     * Returns true if {@code element} is in the list.
+     */
+    boolean contains(T element) {
+        return positions.containsKey(element);
+    }
+
+    /**
+     * Returns the position of {@code element} in the list, or -1 if it is not in the list.
+     */
+    int indexOf(T element) {
+        Integer position = positions.get(element);
+        if (position == null) {
+            return -1;
+        }
+        if (position >= validPositions) {
+            refreshStalePositions();
+            position = positions.get(element);
+        }
+        return position;
+    }
+
+    /**
+     * Records that {@code element} is about to be added to the end of the list.
+     */
+    void beforeAppend(T element) {
+        int position = list.size();
+        positions.put(element, position);
+        if (validPositions == position) {
+            validPositions++;
+        }
+    }
+
+    /**
+     * Records that the element at {@code index} is about to be replaced with {@code element}.
+     */
+    void beforeSet(int index, T element) {
+        positions.remove(list.get(index));
+        positions.put(element, index);
+    }
+
+    /**
+     * Records that the element at {@code index} is about to be removed.
+     */
+    void beforeRemove(int index) {
+        positions.remove(list.get(index));
+        validPositions = Math.min(validPositions, index);
+    }
+
+    /**
+     * Records that the contents of the list are about to be replaced with {@code elements}.
+     */
+    void beforeSetAll(List<? extends T> elements) {
+        positions.clear();
+        for (int i = 0; i < elements.size(); i++) {
+            positions.put(elements.get(i), i);
+        }
+        validPositions = elements.size();
+    }
+
+    private void refreshStalePositions() {
+        for (int i = validPositions; i < list.size(); i++) {
+            positions.put(list.get(i), i);
+        }
+        validPositions = list.size();
+    }
+
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+
+/**
+ * The ids of the entries with some word, in ascending order, for the indexes of entries. New entries get the highest
+ * id yet, so they are usually appended; an edited entry keeps its id and is put back in place.
+ *
+ * The first {@code size} elements of {@code ids} are the ids; the indexes read them directly when merging lists.
+ * Merging ascending ids is also open to code outside the indexes, through {@link #union(long[], long[], int)}.
+ */
+public class PostingList {
+    private static final int INITIAL_CAPACITY = 4;
+
+    long[] ids = new long[INITIAL_CAPACITY];
+    int size = 0;
+
+    void add(long id) {
+        int index = size == 0 || ids[size - 1] < id ? size : Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0 && index < size) {
+            return; // already present
+        }
+        int insertAt = index < 0 ? -index - 1 : index;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    /**
+     * Returns the ids that are in {@code a} or among the first {@code bSize} elements of {@code b}, in ascending
+     * order, where both hold ascending ids.
+     */
+    public static long[] union(long[] a, long[] b, int bSize) {
+        long[] merged = new long[a.length + bSize];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < a.length || j < bSize) {
+            if (j == bSize || (i < a.length && a[i] < b[j])) {
+                merged[size++] = a[i++];
+            } else if (i == a.length || b[j] < a[i]) {
+                merged[size++] = b[j++];
+            } else {
+                merged[size++] = a[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(merged, size);
+    }
+
+    boolean remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+}
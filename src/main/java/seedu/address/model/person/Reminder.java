@@ -1,12 +1,22 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Basic reminder class with minimal functionality.
+ * Listeners are told whenever the reminder is activated or deactivated.
  */
 public abstract class Reminder {
+
+    /** Id of a reminder that has not been given one yet. */
+    public static final long NO_ID = Entry.NO_ID;
+
     private String message;
     private boolean isActivated;
     private int priority;
+    private long id = NO_ID;
+    private final List<ReminderStatusListener> statusListeners = new ArrayList<>();
 
 
     public Reminder(String message) {
@@ -14,10 +24,36 @@ public abstract class Reminder {
         isActivated = false;
     }
 
+    /**
+     * Returns the id of this reminder, or {@code NO_ID} if it has not been given one yet.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Gives this reminder the id {@code id}.
+     *
+     * @throws IllegalStateException if the reminder already has a different id.
+     */
+    public void setId(long id) {
+        if (this.id == id) {
+            return;
+        }
+        if (this.id != NO_ID) {
+            throw new IllegalStateException("Reminder already has id " + this.id);
+        }
+        this.id = id;
+    }
+
     public String getMessage() {
         return message;
     }
 
+    public int getPriority() {
+        return priority;
+    }
+
     public void setPriority(int priority) {
         this.priority = priority;
     }
@@ -26,8 +62,25 @@ public abstract class Reminder {
         return isActivated;
     }
 
+    /**
+     * Sets whether the reminder is activated, telling the listeners if that changes it.
+     */
     void setStatus(boolean bool) {
+        if (isActivated == bool) {
+            return;
+        }
         isActivated = bool;
+        for (ReminderStatusListener listener : new ArrayList<>(statusListeners)) {
+            listener.statusChanged(this);
+        }
+    }
+
+    public void addStatusListener(ReminderStatusListener listener) {
+        statusListeners.add(listener);
+    }
+
+    public void removeStatusListener(ReminderStatusListener listener) {
+        statusListeners.remove(listener);
     }
 
 
@@ -0,0 +1,13 @@
+package seedu.address.model.person;
+
+/**
+ * Listens for a {@code Reminder} being activated or deactivated.
+ */
+@FunctionalInterface
+public interface ReminderStatusListener {
+
+    /**
+     * Called after {@code reminder} is activated or deactivated. Its new status is {@code reminder.getStatus()}.
+     */
+    void statusChanged(Reminder reminder);
+}
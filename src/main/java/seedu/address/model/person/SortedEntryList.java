@@ -0,0 +1,127 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.util.EntryComparator;
+
+/**
+ * A sorted mirror of a list of entries.
+ *
+ * Choosing a new order sorts the whole list once through {@link EntryComparator#sort}. After that, entries added to
+ * the source list are put in place by binary search, and removed ones are found the same way, so the list never
+ * needs sorting again until the order changes. Entries that tie stay in the order they were added in.
+ *
+ * Like the list it mirrors, this is not thread-safe.
+ */
+public class SortedEntryList {
+
+    private final ObservableList<? extends Entry> source;
+    private final ObservableList<Entry> internalList = FXCollections.observableArrayList();
+    private final ObservableList<Entry> internalUnmodifiableList =
+            FXCollections.unmodifiableObservableList(internalList);
+    private EntryComparator comparator;
+
+    /**
+     * Creates a list of the entries in {@code source} sorted by {@code comparator}, which follows entries as they
+     * are added to and removed from {@code source}.
+     */
+    public SortedEntryList(ObservableList<? extends Entry> source, EntryComparator comparator) {
+        requireAllNonNull(source, comparator);
+        this.source = source;
+        this.comparator = comparator;
+        internalList.setAll(comparator.sort(source));
+        source.addListener(this::onSourceChanged);
+    }
+
+    public EntryComparator getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Sorts the entries by {@code comparator}, unless they are sorted by it already.
+     */
+    public void setComparator(EntryComparator comparator) {
+        requireAllNonNull(comparator);
+        if (comparator.equals(this.comparator)) {
+            return;
+        }
+        this.comparator = comparator;
+        internalList.setAll(comparator.sort(source));
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Entry> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends Entry> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            if (change.getAddedSize() > internalList.size()) {
+                // cheaper to sort everything once than to insert one at a time; the source already holds every
+                // part of the change, so the rest of it is covered too
+                internalList.setAll(comparator.sort(source));
+                return;
+            }
+            change.getRemoved().forEach(this::remove);
+            for (Entry entry : change.getAddedSubList()) {
+                internalList.add(indexAfterTies(entry), entry);
+            }
+        }
+    }
+
+    private void remove(Entry entry) {
+        for (int i = indexBeforeTies(entry); i < internalList.size(); i++) {
+            if (internalList.get(i) == entry) {
+                internalList.remove(i);
+                return;
+            }
+            if (comparator.compare(internalList.get(i), entry) != 0) {
+                break;
+            }
+        }
+        assert false : "removed entry was not in the sorted list";
+    }
+
+    /**
+     * Returns the index of the first entry that does not sort before {@code entry}.
+     */
+    private int indexBeforeTies(Entry entry) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(internalList.get(mid), entry) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first entry that sorts after {@code entry}.
+     */
+    private int indexAfterTies(Entry entry) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(internalList.get(mid), entry) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+}
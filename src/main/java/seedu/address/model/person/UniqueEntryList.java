@@ -3,8 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,7 +22,9 @@ import seedu.address.model.person.exceptions.EntryNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Elements are found through a {@link PositionIndex} instead of
+ * by scanning the list, which relies on {@code equals} and {@code hashCode} agreeing with {@code isSameEntry}.
+ * Entries that have been given an id are also indexed by it.
  *
  */
 public class UniqueEntryList implements Iterable<Entry> {
@@ -26,13 +32,22 @@ public class UniqueEntryList implements Iterable<Entry> {
     private final ObservableList<Entry> internalList = FXCollections.observableArrayList();
     private final ObservableList<Entry> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final PositionIndex<Entry> positions = new PositionIndex<>(internalList);
+    private final Map<Long, Entry> entriesById = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Entry toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEntry);
+        return positions.contains(toCheck);
+    }
+
+    /**
+     * Returns the entry in the list with the id {@code id}, if there is one.
+     */
+    public Optional<Entry> getById(long id) {
+        return Optional.ofNullable(entriesById.get(id));
     }
 
     /**
@@ -41,7 +56,11 @@ public class UniqueEntryList implements Iterable<Entry> {
      */
     public void add(Entry toAdd) {
         requireNonNull(toAdd);
-
+        if (contains(toAdd)) {
+            throw new DuplicateEntryException();
+        }
+        positions.beforeAppend(toAdd);
+        indexId(toAdd);
         internalList.add(toAdd);
     }
 
@@ -53,7 +72,7 @@ public class UniqueEntryList implements Iterable<Entry> {
     public void setEntry(Entry target, Entry editedEntry) {
         requireAllNonNull(target, editedEntry);
 
-        int index = internalList.indexOf(target);
+        int index = positions.indexOf(target);
         if (index == -1) {
             throw new EntryNotFoundException();
         }
@@ -62,6 +81,9 @@ public class UniqueEntryList implements Iterable<Entry> {
             throw new DuplicateEntryException();
         }
 
+        positions.beforeSet(index, editedEntry);
+        entriesById.remove(target.getId());
+        indexId(editedEntry);
         internalList.set(index, editedEntry);
     }
 
@@ -71,13 +93,20 @@ public class UniqueEntryList implements Iterable<Entry> {
      */
     public void remove(Entry toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positions.indexOf(toRemove);
+        if (index == -1) {
             throw new EntryNotFoundException();
         }
+        positions.beforeRemove(index);
+        entriesById.remove(toRemove.getId());
+        internalList.remove(index);
     }
 
     public void setEntries(UniqueEntryList replacement) {
         requireNonNull(replacement);
+        positions.beforeSetAll(replacement.internalList);
+        entriesById.clear();
+        entriesById.putAll(replacement.entriesById);
         internalList.setAll(replacement.internalList);
     }
 
@@ -91,6 +120,9 @@ public class UniqueEntryList implements Iterable<Entry> {
             throw new DuplicateEntryException();
         }
 
+        positions.beforeSetAll(entries);
+        entriesById.clear();
+        entries.forEach(this::indexId);
         internalList.setAll(entries);
     }
 
@@ -118,17 +150,16 @@ public class UniqueEntryList implements Iterable<Entry> {
         return internalList.hashCode();
     }
 
+    private void indexId(Entry entry) {
+        if (entry.getId() != Entry.NO_ID) {
+            entriesById.put(entry.getId(), entry);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean entriesAreUnique(List<Entry> entries) {
-        for (int i = 0; i < entries.size() - 1; i++) {
-            for (int j = i + 1; j < entries.size(); j++) {
-                if (entries.get(i).isSameEntry(entries.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return new HashSet<>(entries).size() == entries.size();
     }
 }
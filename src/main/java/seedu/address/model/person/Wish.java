@@ -17,7 +17,7 @@ public class Wish extends Entry {
     }
 
     public Wish(Description desc, LocalDate date, Amount amount, Set<Tag> tags) {
-        super(desc, new Date(date), amount, tags);
+        super(desc, Date.of(date), amount, tags);
     }
 
     public String getType() {
@@ -15,6 +15,10 @@ public class WishDescriptionContainsKeywordsPredicate implements Predicate<Wish>
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Wish entry) {
         return keywords.stream()
@@ -1,9 +1,10 @@
 package seedu.address.model.person;
 
-import java.time.LocalDate;
+import java.util.Objects;
 
 /**
  * Implements wish reminder
+ * The reminder is activated by a {@link WishReminderScheduler} when its wish comes due.
  */
 public class WishReminder extends Reminder {
     private Wish wish;
@@ -14,14 +15,6 @@ public class WishReminder extends Reminder {
     public Wish getWish() {
         return wish;
     }
-    /**
-     *checks status of reminder. i.e. should reminder trigger.
-     */
-    public void updateStatus() {
-        Date date = wish.getDate();
-        super.setStatus(!LocalDate.now().isBefore(date.getDate()));
-    }
-
     public void setWish(Wish wish) {
         assert (wish.equals(wish));
         this.wish = wish;
@@ -42,6 +35,6 @@ public class WishReminder extends Reminder {
         WishReminder otherWishReminder = (WishReminder) otherReminder;
         return otherWishReminder != null
                 && otherWishReminder.getMessage().equals(getMessage())
-                && otherWishReminder.getWish().equals(getWish());
+                && Objects.equals(otherWishReminder.getWish(), getWish());
     }
 }
@@ -3,13 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.model.person.exceptions.DuplicateEntryException;
 import seedu.address.model.person.exceptions.EntryNotFoundException;
 
@@ -20,14 +22,25 @@ import seedu.address.model.person.exceptions.EntryNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Reminders that have been given an id are also indexed by it.
  *
+ * The list listens to the status of every reminder in it, and keeps the reminders that are activated in a separate
+ * list as they change.
  */
 public class WishReminderList implements Iterable<WishReminder> {
 
     private final ObservableList<WishReminder> internalList = FXCollections.observableArrayList();
     private final ObservableList<WishReminder> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final ObservableList<WishReminder> activeList = FXCollections.observableArrayList();
+    private final ObservableList<WishReminder> activeUnmodifiableList =
+            FXCollections.unmodifiableObservableList(activeList);
+    private final Map<Long, WishReminder> remindersById = new HashMap<>();
+    private final ReminderStatusListener statusTracker = this::onStatusChanged;
+
+    public WishReminderList() {
+        internalList.addListener(this::onRemindersChanged);
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -37,6 +50,44 @@ public class WishReminderList implements Iterable<WishReminder> {
         return internalList.stream().anyMatch(toCheck::isSameReminder);
     }
 
+    /**
+     * Returns the reminder in the list with the id {@code id}, if there is one.
+     */
+    public Optional<WishReminder> getById(long id) {
+        return Optional.ofNullable(remindersById.get(id));
+    }
+
+    private void onRemindersChanged(ListChangeListener.Change<? extends WishReminder> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (WishReminder removed : change.getRemoved()) {
+                removed.removeStatusListener(statusTracker);
+                remindersById.remove(removed.getId(), removed);
+                activeList.remove(removed);
+            }
+            for (WishReminder added : change.getAddedSubList()) {
+                added.addStatusListener(statusTracker);
+                if (added.getId() != Reminder.NO_ID) {
+                    remindersById.put(added.getId(), added);
+                }
+                if (added.getStatus()) {
+                    activeList.add(added);
+                }
+            }
+        }
+    }
+
+    private void onStatusChanged(Reminder reminder) {
+        WishReminder wishReminder = (WishReminder) reminder;
+        if (wishReminder.getStatus()) {
+            activeList.add(wishReminder);
+        } else {
+            activeList.remove(wishReminder);
+        }
+    }
+
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
@@ -92,22 +143,12 @@ public class WishReminderList implements Iterable<WishReminder> {
         internalList.setAll(entries);
     }
 
-    /**
-     * updates the status of all reminders in ExpenseReminderList
-     */
-    public void updateList() {
-        for (WishReminder reminder : internalList) {
-            reminder.updateStatus();
-        }
-    }
-
     /**
      * Get list of reminders to be displayed on main page.
+     * The list holds the activated reminders, in the order they were activated, and is updated as they change.
      */
     public ObservableList<WishReminder> getDisplay() {
-        FilteredList<WishReminder> displayList = new FilteredList<>(this.asUnmodifiableObservableList());
-        displayList.setPredicate(new WishReminderIsActive());
-        return displayList;
+        return activeUnmodifiableList;
     }
 
     /**
@@ -135,12 +176,3 @@ public class WishReminderList implements Iterable<WishReminder> {
     }
 }
 
-/**
- * Predicate to filter reminders to be displayed.
- */
-class WishReminderIsActive implements Predicate<WishReminder> {
-    @Override
-    public boolean test(WishReminder entry) {
-        return entry.getStatus();
-    }
-}
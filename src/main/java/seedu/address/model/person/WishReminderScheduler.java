@@ -0,0 +1,205 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Activates the wish reminders in a list when their wishes come due, at the start of the day of the wish.
+ *
+ * Reminders waiting to come due are kept in a queue ordered by due time, so only the earliest one is waited for,
+ * on a single timer thread. Reminders that come due at the same time are activated in order of priority, highest
+ * first. Reminders that are already due when added to the list are activated straight away.
+ */
+public class WishReminderScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(WishReminderScheduler.class);
+    private static final long TIMER_KEEP_ALIVE_SECONDS = 60;
+
+    private final Clock clock;
+    private final Executor activationExecutor;
+    private final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "wish-reminder-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Guards every field below. */
+    private final Object lock = new Object();
+    private final PriorityQueue<ScheduledReminder> queue = new PriorityQueue<>(
+            Comparator.comparing((ScheduledReminder scheduled) -> scheduled.dueTime)
+                    .thenComparingInt(scheduled -> -scheduled.priority)
+                    .thenComparingLong(scheduled -> scheduled.sequence));
+    private final Map<WishReminder, ScheduledReminder> scheduledReminders = new IdentityHashMap<>();
+    private long nextSequence = 0;
+    private ScheduledFuture<?> nextWakeUp;
+    private Instant nextWakeUpTime;
+
+    public WishReminderScheduler(ObservableList<WishReminder> reminders) {
+        this(reminders, Clock.systemDefaultZone(), Runnable::run);
+    }
+
+    /**
+     * Creates a scheduler for the reminders in {@code reminders}, which follows reminders as they are added to and
+     * removed from it. Reminders that come due while waiting are activated through {@code activationExecutor}.
+     */
+    public WishReminderScheduler(ObservableList<WishReminder> reminders, Clock clock, Executor activationExecutor) {
+        requireAllNonNull(reminders, clock, activationExecutor);
+        this.clock = clock;
+        this.activationExecutor = activationExecutor;
+        timer.setKeepAliveTime(TIMER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        timer.allowCoreThreadTimeOut(true);
+        timer.setRemoveOnCancelPolicy(true);
+
+        scheduleAll(reminders);
+        reminders.addListener(this::onRemindersChanged);
+    }
+
+    private void onRemindersChanged(ListChangeListener.Change<? extends WishReminder> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::cancel);
+            scheduleAll(change.getAddedSubList());
+        }
+    }
+
+    /**
+     * Schedules every reminder in {@code reminders}, and activates the ones already due in order of priority.
+     * Reminders that are not due yet are deactivated until they are.
+     */
+    private void scheduleAll(List<? extends WishReminder> reminders) {
+        List<WishReminder> due = new ArrayList<>();
+        for (WishReminder reminder : reminders) {
+            if (reminder.getWish() == null) {
+                // a reminder whose wish no longer exists never comes due
+                continue;
+            }
+            if (schedule(reminder)) {
+                reminder.setStatus(false);
+            } else {
+                due.add(reminder);
+            }
+        }
+        due.sort(Comparator.comparingInt(reminder -> -reminder.getPriority()));
+        due.forEach(reminder -> reminder.setStatus(true));
+    }
+
+    /**
+     * Queues {@code reminder} to be activated when its wish comes due.
+     *
+     * @return false if the wish is already due, in which case the reminder is not queued.
+     */
+    private boolean schedule(WishReminder reminder) {
+        Instant dueTime = reminder.getWish().getDate().getDate().atStartOfDay(clock.getZone()).toInstant();
+        if (!dueTime.isAfter(clock.instant())) {
+            return false;
+        }
+
+        synchronized (lock) {
+            ScheduledReminder scheduled = new ScheduledReminder(reminder, dueTime, nextSequence++);
+            ScheduledReminder replaced = scheduledReminders.put(reminder, scheduled);
+            if (replaced != null) {
+                replaced.isCancelled = true;
+            }
+            queue.add(scheduled);
+            wakeUpForEarliest();
+        }
+        return true;
+    }
+
+    private void cancel(WishReminder reminder) {
+        synchronized (lock) {
+            ScheduledReminder scheduled = scheduledReminders.remove(reminder);
+            if (scheduled != null) {
+                // left in the queue and skipped when it comes due, instead of searching the queue for it
+                scheduled.isCancelled = true;
+            }
+        }
+    }
+
+    /**
+     * Makes sure the timer wakes up when the earliest reminder in the queue comes due.
+     */
+    private void wakeUpForEarliest() {
+        assert Thread.holdsLock(lock);
+        while (!queue.isEmpty() && queue.peek().isCancelled) {
+            queue.poll();
+        }
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        Instant earliest = queue.peek().dueTime;
+        if (nextWakeUp != null && !nextWakeUp.isDone() && !nextWakeUpTime.isAfter(earliest)) {
+            return;
+        }
+        if (nextWakeUp != null) {
+            nextWakeUp.cancel(false);
+        }
+        long delayMillis = Math.max(0, Duration.between(clock.instant(), earliest).toMillis());
+        nextWakeUpTime = earliest;
+        nextWakeUp = timer.schedule(this::activateDueReminders, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Activates every reminder that has come due, in order, and waits for the next one.
+     */
+    private void activateDueReminders() {
+        List<WishReminder> due = new ArrayList<>();
+        synchronized (lock) {
+            Instant now = clock.instant();
+            while (!queue.isEmpty() && !queue.peek().dueTime.isAfter(now)) {
+                ScheduledReminder scheduled = queue.poll();
+                if (!scheduled.isCancelled) {
+                    scheduledReminders.remove(scheduled.reminder);
+                    due.add(scheduled.reminder);
+                }
+            }
+            nextWakeUp = null;
+            wakeUpForEarliest();
+        }
+
+        if (!due.isEmpty()) {
+            logger.fine("Activating " + due.size() + " wish reminders");
+            activationExecutor.execute(() -> due.forEach(reminder -> reminder.setStatus(true)));
+        }
+    }
+
+    /**
+     * A reminder waiting in the queue.
+     */
+    private static class ScheduledReminder {
+        private final WishReminder reminder;
+        private final Instant dueTime;
+        private final int priority;
+        private final long sequence;
+        private boolean isCancelled = false;
+
+        ScheduledReminder(WishReminder reminder, Instant dueTime, long sequence) {
+            this.reminder = reminder;
+            this.dueTime = dueTime;
+            this.priority = reminder.getPriority();
+            this.sequence = sequence;
+        }
+    }
+
+}
@@ -0,0 +1,302 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.DescriptionIndex;
+import seedu.address.model.person.Entry;
+import seedu.address.model.person.EntryColumns.Type;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A condition on entries, made of criteria on their type, date, amount, tags and description words, joined with
+ * and, or and not.
+ *
+ * Besides testing an entry, a query can say which entries an index could narrow its matches down to, so that
+ * {@link QueryPlanner} only has to test those.
+ *
+ * Queries are equal if they are built the same way from equal criteria.
+ */
+public abstract class Query implements Predicate<Entry> {
+
+    /**
+     * Returns the entries that the indexes of {@code planner} can narrow the matches of this query down to, which
+     * include every match, or nothing if no index can narrow them down and every entry has to be tested.
+     */
+    abstract Optional<QueryPlanner.Candidates> candidates(QueryPlanner planner);
+
+    /**
+     * Returns a query matching the entries of type {@code type}.
+     */
+    public static Query ofType(Type type) {
+        requireNonNull(type);
+        return new Criterion("type " + type, entry -> Type.of(entry) == type, planner -> Optional.empty());
+    }
+
+    /**
+     * Returns a query matching the entries dated from {@code fromEpochDay} to {@code toEpochDay}, both inclusive.
+     */
+    public static Query datedBetween(long fromEpochDay, long toEpochDay) {
+        String description = "date " + LocalDate.ofEpochDay(fromEpochDay) + ".." + LocalDate.ofEpochDay(toEpochDay);
+        return new Criterion(description, entry -> {
+            long day = entry.getDate().getEpochDay();
+            return day >= fromEpochDay && day <= toEpochDay;
+        }, planner -> Optional.of(planner.datedBetween(fromEpochDay, toEpochDay)));
+    }
+
+    /**
+     * Returns a query matching the entries of {@code fromCents} to {@code toCents}, both inclusive.
+     */
+    public static Query amountBetween(long fromCents, long toCents) {
+        return new Criterion("amount " + fromCents + ".." + toCents, entry -> {
+            long cents = entry.getAmount().getCents();
+            return cents >= fromCents && cents <= toCents;
+        }, planner -> Optional.of(planner.amountBetween(fromCents, toCents)));
+    }
+
+    /**
+     * Returns a query matching the entries tagged with {@code tag}.
+     */
+    public static Query taggedWith(Tag tag) {
+        requireNonNull(tag);
+        return new Criterion("tag " + tag, entry -> entry.getTags().contains(tag),
+                planner -> Optional.of(planner.taggedWith(tag)));
+    }
+
+    /**
+     * Returns a query matching the entries with the word {@code word} in their description, ignoring case.
+     */
+    public static Query withWord(String word) {
+        requireNonNull(word);
+        String lowerCaseWord = word.toLowerCase(Locale.ROOT);
+        return new Criterion("word " + lowerCaseWord,
+                entry -> DescriptionIndex.wordsOf(entry.getDesc().fullDesc).contains(lowerCaseWord),
+                planner -> Optional.of(planner.withWord(lowerCaseWord)));
+    }
+
+    /**
+     * Returns a query matching the entries that match every one of {@code queries}.
+     */
+    public static Query allOf(List<Query> queries) {
+        requireAllNonNull(queries);
+        return queries.size() == 1 ? queries.get(0) : new AllOf(queries);
+    }
+
+    /**
+     * Returns a query matching the entries that match at least one of {@code queries}.
+     */
+    public static Query anyOf(List<Query> queries) {
+        requireAllNonNull(queries);
+        return queries.size() == 1 ? queries.get(0) : new AnyOf(queries);
+    }
+
+    /**
+     * Returns a query matching the entries that do not match {@code query}.
+     */
+    public static Query not(Query query) {
+        requireNonNull(query);
+        return new Not(query);
+    }
+
+    /**
+     * A single criterion on a field of an entry, which may be narrowed down by an index. Its description names the
+     * field and the values it accepts, so criteria with the same description match the same entries.
+     */
+    private static class Criterion extends Query {
+        private final String description;
+        private final Predicate<Entry> test;
+        private final Function<QueryPlanner, Optional<QueryPlanner.Candidates>> lookup;
+
+        Criterion(String description, Predicate<Entry> test,
+                  Function<QueryPlanner, Optional<QueryPlanner.Candidates>> lookup) {
+            this.description = description;
+            this.test = test;
+            this.lookup = lookup;
+        }
+
+        @Override
+        public boolean test(Entry entry) {
+            return test.test(entry);
+        }
+
+        @Override
+        Optional<QueryPlanner.Candidates> candidates(QueryPlanner planner) {
+            return lookup.apply(planner);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Criterion // instanceof handles nulls
+                    && description.equals(((Criterion) other).description)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return description.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * Matches the entries that match every one of its queries. Its matches are among those of any one of them, so
+     * it is narrowed down by whichever of them has the fewest candidates.
+     */
+    private static class AllOf extends Query {
+        private final List<Query> queries;
+
+        AllOf(List<Query> queries) {
+            this.queries = List.copyOf(queries);
+        }
+
+        @Override
+        public boolean test(Entry entry) {
+            for (Query query : queries) {
+                if (!query.test(entry)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        Optional<QueryPlanner.Candidates> candidates(QueryPlanner planner) {
+            Optional<QueryPlanner.Candidates> fewest = Optional.empty();
+            for (Query query : queries) {
+                Optional<QueryPlanner.Candidates> candidates = query.candidates(planner);
+                if (candidates.isPresent()
+                        && (fewest.isEmpty() || candidates.get().getEstimate() < fewest.get().getEstimate())) {
+                    fewest = candidates;
+                }
+            }
+            return fewest;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof AllOf // instanceof handles nulls
+                    && queries.equals(((AllOf) other).queries)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return queries.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "(" + join(queries, " and ") + ")";
+        }
+    }
+
+    /**
+     * Matches the entries that match at least one of its queries. It can only be narrowed down if every one of
+     * them can, to the candidates of all of them together.
+     */
+    private static class AnyOf extends Query {
+        private final List<Query> queries;
+
+        AnyOf(List<Query> queries) {
+            this.queries = List.copyOf(queries);
+        }
+
+        @Override
+        public boolean test(Entry entry) {
+            for (Query query : queries) {
+                if (query.test(entry)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        Optional<QueryPlanner.Candidates> candidates(QueryPlanner planner) {
+            List<QueryPlanner.Candidates> all = new ArrayList<>();
+            for (Query query : queries) {
+                Optional<QueryPlanner.Candidates> candidates = query.candidates(planner);
+                if (candidates.isEmpty()) {
+                    return Optional.empty();
+                }
+                all.add(candidates.get());
+            }
+            return Optional.of(QueryPlanner.Candidates.union(all));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof AnyOf // instanceof handles nulls
+                    && queries.equals(((AnyOf) other).queries)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return queries.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "(" + join(queries, " or ") + ")";
+        }
+    }
+
+    /**
+     * Matches the entries that its query does not. Those are most of the entries as a rule, so it is never narrowed
+     * down by an index.
+     */
+    private static class Not extends Query {
+        private final Query query;
+
+        Not(Query query) {
+            this.query = query;
+        }
+
+        @Override
+        public boolean test(Entry entry) {
+            return !query.test(entry);
+        }
+
+        @Override
+        Optional<QueryPlanner.Candidates> candidates(QueryPlanner planner) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Not // instanceof handles nulls
+                    && query.equals(((Not) other).query)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return ~query.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "not " + query;
+        }
+    }
+
+    private static String join(List<Query> queries, String separator) {
+        List<String> descriptions = new ArrayList<>();
+        queries.forEach(query -> descriptions.add(query.toString()));
+        return String.join(separator, descriptions);
+    }
+
+}
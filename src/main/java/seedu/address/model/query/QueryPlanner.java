@@ -0,0 +1,132 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.DescriptionIndex;
+import seedu.address.model.person.Entry;
+import seedu.address.model.person.EntryAttributeIndex;
+import seedu.address.model.person.PostingList;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Runs queries over the entries of an address book through its indexes.
+ *
+ * A query is first asked which entries the indexes can narrow its matches down to; where it has a choice, as with
+ * and, it takes the index with the fewest candidates, which is known before any of them is collected. Only those
+ * candidates are then tested against the whole query. A query that no index can narrow down, such as a lone not,
+ * is tested against every entry.
+ */
+public class QueryPlanner {
+
+    private static final Logger logger = LogsCenter.getLogger(QueryPlanner.class);
+
+    private final DescriptionIndex descriptionIndex;
+    private final EntryAttributeIndex attributeIndex;
+    private final LongFunction<Optional<Entry>> entriesById;
+
+    /**
+     * Creates a planner over the entries indexed by {@code descriptionIndex} and {@code attributeIndex}, which
+     * {@code entriesById} looks up by id.
+     */
+    public QueryPlanner(DescriptionIndex descriptionIndex, EntryAttributeIndex attributeIndex,
+                        LongFunction<Optional<Entry>> entriesById) {
+        requireAllNonNull(descriptionIndex, attributeIndex, entriesById);
+        this.descriptionIndex = descriptionIndex;
+        this.attributeIndex = attributeIndex;
+        this.entriesById = entriesById;
+    }
+
+    /**
+     * Returns a predicate that accepts the entries that match {@code query} now.
+     *
+     * If an index narrows the query down, the matches are worked out here, from the candidates alone, and the
+     * predicate only looks up ids in them. Otherwise the predicate is the query itself.
+     */
+    public Predicate<Entry> resolve(Query query) {
+        Optional<Candidates> candidates = query.candidates(this);
+        if (candidates.isEmpty()) {
+            logger.fine("No index narrows down " + query + "; testing every entry");
+            return query;
+        }
+
+        long[] candidateIds = candidates.get().ids.get();
+        long[] matchingIds = new long[candidateIds.length];
+        int size = 0;
+        for (long id : candidateIds) {
+            Optional<Entry> entry = entriesById.apply(id);
+            if (entry.isPresent() && query.test(entry.get())) {
+                matchingIds[size++] = id;
+            }
+        }
+        logger.fine("Tested " + candidateIds.length + " candidates for " + query + "; " + size + " matched");
+        long[] matches = Arrays.copyOf(matchingIds, size);
+        return entry -> Arrays.binarySearch(matches, entry.getId()) >= 0;
+    }
+
+    //// index lookups, for the criteria of queries
+
+    Candidates datedBetween(long fromEpochDay, long toEpochDay) {
+        return new Candidates(attributeIndex.countDatedBetween(fromEpochDay, toEpochDay), () ->
+                attributeIndex.idsDatedBetween(fromEpochDay, toEpochDay));
+    }
+
+    Candidates amountBetween(long fromCents, long toCents) {
+        return new Candidates(attributeIndex.countWithAmountBetween(fromCents, toCents), () ->
+                attributeIndex.idsWithAmountBetween(fromCents, toCents));
+    }
+
+    Candidates taggedWith(Tag tag) {
+        return new Candidates(attributeIndex.countWithTag(tag), () -> attributeIndex.idsWithTag(tag));
+    }
+
+    Candidates withWord(String word) {
+        List<String> words = List.of(word);
+        return new Candidates(descriptionIndex.countWithAnyWord(words), () -> descriptionIndex.idsWithAnyWord(words));
+    }
+
+    /**
+     * The ids of the entries that an index narrows a query down to, collected only when asked for, with an upper
+     * bound on how many there are.
+     */
+    static class Candidates {
+        private final int estimate;
+        private final Supplier<long[]> ids;
+
+        Candidates(int estimate, Supplier<long[]> ids) {
+            this.estimate = estimate;
+            this.ids = ids;
+        }
+
+        int getEstimate() {
+            return estimate;
+        }
+
+        /**
+         * Returns the candidates of every one of {@code all} together.
+         */
+        static Candidates union(List<Candidates> all) {
+            int estimate = 0;
+            for (Candidates candidates : all) {
+                estimate += candidates.estimate;
+            }
+            return new Candidates(estimate, () -> {
+                long[] union = new long[0];
+                for (Candidates candidates : all) {
+                    long[] ids = candidates.ids.get();
+                    union = PostingList.union(union, ids, ids.length);
+                }
+                return union;
+            });
+        }
+    }
+
+}
@@ -3,16 +3,35 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Tag names are interned: each name is given a small id the first time it is seen, which every tag of that name
+ * shares for as long as the app runs, so that sets of tags can be held as bitsets of ids (see {@link TagSet}).
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    /** Guards the interned tags. */
+    private static final Object INTERN_LOCK = new Object();
+    private static final Map<String, Tag> internedTags = new HashMap<>();
+    /**
+     * The interned tag of each id, followed by unused slots. It doubles in size when it fills up, and is written back
+     * after every new tag, so that the tag can be read from it without the lock.
+     */
+    private static volatile Tag[] tagsById = new Tag[16];
 
     public final String tagName;
+    private final int id;
 
     /**
      * Constructs a {@code Tag}.
@@ -20,23 +39,68 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(of(tagName));
+    }
+
+    private Tag(Tag interned) {
+        this(interned.tagName, interned.id);
+    }
+
+    private Tag(String tagName, int id) {
+        this.tagName = tagName;
+        this.id = id;
+    }
+
+    /**
+     * Returns the tag named {@code tagName}, shared by every caller asking for that name.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName;
+        synchronized (INTERN_LOCK) {
+            Tag tag = internedTags.get(tagName);
+            if (tag == null) {
+                tag = new Tag(tagName, internedTags.size());
+                internedTags.put(tagName, tag);
+                Tag[] ids = tagsById;
+                if (tag.id == ids.length) {
+                    ids = Arrays.copyOf(ids, ids.length * 2);
+                }
+                ids[tag.id] = tag;
+                tagsById = ids;
+            }
+            return tag;
+        }
+    }
+
+    /**
+     * Returns the tag with the id {@code id}, which must have been given to a tag already.
+     */
+    public static Tag withId(int id) {
+        return tagsById[id];
+    }
+
+    /**
+     * Returns the id of the name of this tag, the same for every tag of that name.
+     */
+    public int getId() {
+        return id;
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Tag // instanceof handles nulls
-                && tagName.equals(((Tag) other).tagName)); // state check
+                && id == ((Tag) other).id); // state check
     }
 
     @Override
@@ -0,0 +1,159 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of tags, held as a bitset of their ids (see {@link Tag#getId()}).
+ *
+ * Checking whether two tag sets share a tag takes a bitwise AND of their words instead of a lookup per tag.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new long[0]);
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    /** Has no trailing zero words, so that equal sets have equal words. */
+    private final long[] words;
+    private final int size;
+    private final int hashCode;
+
+    private TagSet(long[] words) {
+        this.words = words;
+        int bitCount = 0;
+        int tagHashes = 0;
+        for (int i = 0; i < words.length; i++) {
+            bitCount += Long.bitCount(words[i]);
+        }
+        for (Tag tag : this) {
+            tagHashes += tag.hashCode();
+        }
+        this.size = bitCount;
+        this.hashCode = tagHashes;
+    }
+
+    /**
+     * Returns the set of the tags in {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+        long[] words = new long[0];
+        for (Tag tag : tags) {
+            int word = tag.getId() / BITS_PER_WORD;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, word + 1);
+            }
+            words[word] |= 1L << tag.getId();
+        }
+        return new TagSet(words);
+    }
+
+    /**
+     * Returns true if this set and {@code other} have at least one tag in common.
+     */
+    public boolean intersects(TagSet other) {
+        int common = Math.min(words.length, other.words.length);
+        for (int i = 0; i < common; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of words in the bitset; bits past the last word are all clear.
+     */
+    public int wordCount() {
+        return words.length;
+    }
+
+    /**
+     * Returns the {@code index}-th word of the bitset, whose bit {@code i} is set if the tag with the id
+     * {@code index * 64 + i} is in this set.
+     */
+    public long word(int index) {
+        return words[index];
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        if (!(other instanceof Tag)) {
+            return false;
+        }
+        int id = ((Tag) other).getId();
+        int word = id / BITS_PER_WORD;
+        return word < words.length && (words[word] & (1L << id)) != 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int nextId = nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return nextId >= 0;
+            }
+
+            @Override
+            public Tag next() {
+                if (nextId < 0) {
+                    throw new NoSuchElementException();
+                }
+                Tag tag = Tag.withId(nextId);
+                nextId = nextSetBit(nextId + 1);
+                return tag;
+            }
+        };
+    }
+
+    /**
+     * Returns the lowest id at or above {@code from} in this set, or -1 if there is none.
+     */
+    private int nextSetBit(int from) {
+        int word = from / BITS_PER_WORD;
+        if (word >= words.length) {
+            return -1;
+        }
+        long bits = words[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == words.length) {
+                return -1;
+            }
+            bits = words[word];
+        }
+        return word * BITS_PER_WORD + Long.numberOfTrailingZeros(bits);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet) {
+            return other == this || Arrays.equals(words, ((TagSet) other).words);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+}
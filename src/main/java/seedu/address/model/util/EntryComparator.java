@@ -1,6 +1,17 @@
 package seedu.address.model.util;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import seedu.address.model.person.Entry;
 import seedu.address.model.person.SortSequence;
@@ -8,30 +19,213 @@ import seedu.address.model.person.SortType;
 
 /**
  * Represents a EntryComparator in the finance manager.
- * SortType specifies the type of sorting and SortSequence specifies the direction of sorting.
+ * Each SortType specifies a key to sort by and the SortSequence paired with it specifies the direction of sorting;
+ * later keys break ties in earlier ones.
+ *
+ * The keys are resolved once, when the comparator is made. {@link #sort(Collection)} goes further and works out
+ * every key of every entry as a number before sorting, so comparing two entries is a few long comparisons.
  */
 public class EntryComparator implements Comparator<Entry> {
 
-    private SortType typeOfComparator;
-    private SortSequence sequence;
+    /** Lists at least this long are sorted on several threads. */
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private static final String MESSAGE_KEYS_MISMATCH = "Every sort type should have a sort sequence";
+
+    /**
+     * The keys that entries can be sorted by.
+     */
+    private enum Key {
+        AMOUNT("amount", Comparator.comparingLong(entry -> entry.getAmount().getCents())),
+        DESCRIPTION("description", Comparator.comparing(entry -> entry.getDesc().fullDesc)),
+        TIME("time", Comparator.comparingLong(entry -> entry.getDate().getEpochDay()));
+
+        private final String typeName;
+        private final Comparator<Entry> ascending;
+
+        Key(String typeName, Comparator<Entry> ascending) {
+            this.typeName = typeName;
+            this.ascending = ascending;
+        }
+
+        static Key of(SortType type) {
+            for (Key key : values()) {
+                if (key.typeName.equals(type.fullType)) {
+                    return key;
+                }
+            }
+            throw new IllegalArgumentException(SortType.MESSAGE_CONSTRAINTS);
+        }
+
+        /**
+         * Returns the key of each of {@code entries} as a number that orders them the same way.
+         */
+        long[] valuesOf(Entry[] entries) {
+            long[] values = new long[entries.length];
+            switch (this) {
+            case AMOUNT:
+                for (int i = 0; i < entries.length; i++) {
+                    values[i] = entries[i].getAmount().getCents();
+                }
+                break;
+            case TIME:
+                for (int i = 0; i < entries.length; i++) {
+                    values[i] = entries[i].getDate().getEpochDay();
+                }
+                break;
+            case DESCRIPTION:
+                // descriptions repeat a lot, so each distinct one is ranked once
+                Map<String, Long> ranks = new HashMap<>();
+                for (Entry entry : entries) {
+                    ranks.put(entry.getDesc().fullDesc, 0L);
+                }
+                String[] distinct = ranks.keySet().toArray(new String[0]);
+                Arrays.sort(distinct);
+                for (int rank = 0; rank < distinct.length; rank++) {
+                    ranks.put(distinct[rank], (long) rank);
+                }
+                for (int i = 0; i < entries.length; i++) {
+                    values[i] = ranks.get(entries[i].getDesc().fullDesc);
+                }
+                break;
+            default:
+                throw new AssertionError(this);
+            }
+            return values;
+        }
+    }
+
+    private final List<SortType> types;
+    private final List<SortSequence> sequences;
+    /** The keys that can break a tie, with a repeated key left out, and whether each is descending. */
+    private final Key[] keys;
+    private final boolean[] isDescending;
+    private final Comparator<Entry> compiled;
 
     public EntryComparator(SortType typeOfComparator, SortSequence sequence) {
-        this.typeOfComparator = typeOfComparator;
-        this.sequence = sequence;
+        this(List.of(typeOfComparator), List.of(sequence));
+    }
+
+    /**
+     * Creates a comparator that sorts by each of {@code types} in turn, in the direction of the sequence at the same
+     * position in {@code sequences}.
+     *
+     * @throws IllegalArgumentException if there are no types, a type is not one that entries can be sorted by, or
+     *     the number of types and sequences differ.
+     */
+    public EntryComparator(List<SortType> types, List<SortSequence> sequences) {
+        requireAllNonNull(types, sequences);
+        checkArgument(!types.isEmpty() && types.size() == sequences.size(), MESSAGE_KEYS_MISMATCH);
+        this.types = List.copyOf(types);
+        this.sequences = List.copyOf(sequences);
+
+        List<Key> distinctKeys = new ArrayList<>();
+        List<Boolean> distinctDescending = new ArrayList<>();
+        Set<Key> seen = EnumSet.noneOf(Key.class);
+        Comparator<Entry> chain = null;
+        for (int i = 0; i < types.size(); i++) {
+            Key key = Key.of(types.get(i));
+            if (!seen.add(key)) {
+                continue;
+            }
+            boolean descending = sequences.get(i).getSequence() < 0;
+            Comparator<Entry> next = descending ? key.ascending.reversed() : key.ascending;
+            chain = chain == null ? next : chain.thenComparing(next);
+            distinctKeys.add(key);
+            distinctDescending.add(descending);
+        }
+        keys = distinctKeys.toArray(new Key[0]);
+        isDescending = new boolean[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            isDescending[i] = distinctDescending.get(i);
+        }
+        compiled = chain;
     }
 
     @Override
     public int compare(Entry e1, Entry e2) {
-        switch(typeOfComparator.toString()) {
-        case "amount":
-            return (Double.valueOf(e1.getAmount().value)).compareTo(e2.getAmount().value) * this.sequence.getSequence();
-        case "description":
-            return (e1.getDesc().fullDesc).compareTo(e2.getDesc().fullDesc) * this.sequence.getSequence();
-        case "time":
-            return (e1.getDate().toString()).compareTo(e2.getDate().toString()) * this.sequence.getSequence();
-        default:
-            //TODO
-            return 1;
+        return compiled.compare(e1, e2);
+    }
+
+    /**
+     * Returns {@code entries} in the order of this comparator. Entries that tie keep the order they were given in.
+     */
+    public List<Entry> sort(Collection<? extends Entry> entries) {
+        Entry[] toSort = entries.toArray(new Entry[0]);
+        long[][] values = new long[keys.length][];
+        for (int k = 0; k < keys.length; k++) {
+            values[k] = keys[k].valuesOf(toSort);
+            if (isDescending[k]) {
+                // ~ reverses the order without overflowing, unlike negation
+                for (int i = 0; i < toSort.length; i++) {
+                    values[k][i] = ~values[k][i];
+                }
+            }
+        }
+
+        KeyedEntry[] keyed = new KeyedEntry[toSort.length];
+        for (int i = 0; i < toSort.length; i++) {
+            keyed[i] = new KeyedEntry(toSort[i], keys.length > 0 ? values[0][i] : 0,
+                    keys.length > 1 ? values[1][i] : 0, keys.length > 2 ? values[2][i] : 0);
+        }
+        if (keyed.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(keyed, KeyedEntry.ORDER);
+        } else {
+            Arrays.sort(keyed, KeyedEntry.ORDER);
+        }
+
+        List<Entry> sorted = new ArrayList<>(keyed.length);
+        for (KeyedEntry entry : keyed) {
+            sorted.add(entry.entry);
+        }
+        return sorted;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof EntryComparator // instanceof handles nulls
+                && types.equals(((EntryComparator) other).types)
+                && sequences.equals(((EntryComparator) other).sequences)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return types.hashCode() * 31 + sequences.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        List<String> pairs = new ArrayList<>();
+        for (int i = 0; i < types.size(); i++) {
+            pairs.add(types.get(i) + " " + sequences.get(i));
+        }
+        return String.join(", ", pairs);
+    }
+
+    /**
+     * An entry with its sort keys, at most one per {@link Key}, worked out ahead of sorting.
+     */
+    private static class KeyedEntry {
+        private static final Comparator<KeyedEntry> ORDER = (a, b) -> {
+            int result = Long.compare(a.first, b.first);
+            if (result == 0) {
+                result = Long.compare(a.second, b.second);
+            }
+            return result != 0 ? result : Long.compare(a.third, b.third);
+        };
+
+        private final Entry entry;
+        private final long first;
+        private final long second;
+        private final long third;
+
+        KeyedEntry(Entry entry, long first, long second, long third) {
+            this.entry = entry;
+            this.first = first;
+            this.second = second;
+            this.third = third;
         }
     }
+
 }
@@ -0,0 +1,232 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.AutoExpense;
+import seedu.address.model.person.Entry;
+import seedu.address.model.person.Expense;
+import seedu.address.model.person.ExpenseReminder;
+import seedu.address.model.person.ExpenseTracker;
+import seedu.address.model.person.Income;
+import seedu.address.model.person.Wish;
+import seedu.address.model.person.WishReminder;
+
+/**
+ * An unmodifiable copy of the lists of a {@code ReadOnlyAddressBook} at one point in time, which can be written out
+ * from another thread while the original address book keeps changing.
+ *
+ * Taking a snapshot copies every list, in time linear in the size of the address book, so storages that can write
+ * just what changed take one only when they have to write everything.
+ * The entries are shared rather than copied: they are immutable once they are in an address book, since their id is
+ * given before they are added and never changes after. The reminders and their trackers are copied, since the
+ * thread that changes the address book keeps updating their status and amounts. Handing the snapshot to the writing
+ * thread through a lock or an executor then makes everything it holds visible to that thread.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Entry> entries;
+    private final ObservableList<Expense> expenses;
+    private final ObservableList<Income> incomes;
+    private final ObservableList<Wish> wishes;
+    private final ObservableList<AutoExpense> autoExpenses;
+    private final ObservableList<ExpenseReminder> expenseReminders;
+    private final ObservableList<ExpenseTracker> expenseTrackers;
+    private final ObservableList<WishReminder> wishReminders;
+    private final long nextId;
+
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        entries = copyOf(source.getEntryList());
+        expenses = copyOf(source.getExpenseList());
+        incomes = copyOf(source.getIncomeList());
+        wishes = copyOf(source.getWishList());
+        autoExpenses = copyOf(source.getAutoExpenseList());
+        Map<ExpenseTracker, ExpenseTracker> trackerCopies = new IdentityHashMap<>();
+        expenseTrackers = copyOf(source.getExpenseTrackerList().stream()
+                .map(tracker -> copyOf(tracker, trackerCopies))
+                .collect(Collectors.toList()));
+        expenseReminders = copyOf(copyOfExpenseReminders(source.getExpenseReminderList(), trackerCopies));
+        wishReminders = copyOf(copyOfWishReminders(source.getWishReminderList()));
+        nextId = source.getNextId();
+    }
+
+    private AddressBookSnapshot(List<Expense> expenses, List<Income> incomes, List<Wish> wishes,
+                                List<ExpenseReminder> expenseReminders, List<WishReminder> wishReminders,
+                                long nextId) {
+        List<Entry> allEntries = new ArrayList<>(expenses);
+        allEntries.addAll(incomes);
+        allEntries.addAll(wishes);
+        this.entries = copyOf(allEntries);
+        this.expenses = copyOf(expenses);
+        this.incomes = copyOf(incomes);
+        this.wishes = copyOf(wishes);
+        this.autoExpenses = copyOf(Collections.emptyList());
+        this.expenseReminders = copyOf(copyOfExpenseReminders(expenseReminders, new IdentityHashMap<>()));
+        this.expenseTrackers = copyOf(
+                this.expenseReminders.stream().map(ExpenseReminder::getTracker).collect(Collectors.toList()));
+        this.wishReminders = copyOf(copyOfWishReminders(wishReminders));
+        this.nextId = nextId;
+    }
+
+    /**
+     * Returns a snapshot holding only the given expenses, incomes and wishes, without the next id.
+     */
+    public static AddressBookSnapshot ofEntries(List<Expense> expenses, List<Income> incomes, List<Wish> wishes) {
+        return new AddressBookSnapshot(expenses, incomes, wishes, Collections.emptyList(), Collections.emptyList(),
+                Entry.NO_ID);
+    }
+
+    /**
+     * Returns a snapshot holding only the reminders and the next id of {@code source}.
+     */
+    public static AddressBookSnapshot ofReminders(ReadOnlyAddressBook source) {
+        return new AddressBookSnapshot(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                source.getExpenseReminderList(), source.getWishReminderList(), source.getNextId());
+    }
+
+    /**
+     * Returns true if the snapshot holds nothing that is saved.
+     */
+    public boolean isEmpty() {
+        return expenses.isEmpty() && incomes.isEmpty() && wishes.isEmpty() && expenseReminders.isEmpty()
+                && wishReminders.isEmpty();
+    }
+
+    private static <T> ObservableList<T> copyOf(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+
+    /**
+     * Returns a copy of {@code tracker} that no one else updates, the same copy for every reminder that shares it.
+     */
+    private static ExpenseTracker copyOf(ExpenseTracker tracker, Map<ExpenseTracker, ExpenseTracker> trackerCopies) {
+        return trackerCopies.computeIfAbsent(tracker, unused -> {
+            ExpenseTracker copy = new ExpenseTracker(tracker.getPredicate());
+            copy.setAmount(tracker.getAmount());
+            return copy;
+        });
+    }
+
+    private static List<ExpenseReminder> copyOfExpenseReminders(List<ExpenseReminder> reminders,
+                                                                Map<ExpenseTracker, ExpenseTracker> trackerCopies) {
+        List<ExpenseReminder> copies = new ArrayList<>();
+        for (ExpenseReminder reminder : reminders) {
+            ExpenseReminder copy = new ExpenseReminder(reminder.getMessage(), reminder.getQuota(),
+                    copyOf(reminder.getTracker(), trackerCopies));
+            copy.setId(reminder.getId());
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    private static List<WishReminder> copyOfWishReminders(List<WishReminder> reminders) {
+        List<WishReminder> copies = new ArrayList<>();
+        for (WishReminder reminder : reminders) {
+            WishReminder copy = new WishReminder(reminder.getMessage(), reminder.getWish());
+            copy.setId(reminder.getId());
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    /**
+     * Returns the fields of {@code reminders} that are saved, for comparing snapshots, since copied reminders are
+     * not equal to one another.
+     */
+    private static List<List<Object>> savedFieldsOfExpenseReminders(List<ExpenseReminder> reminders) {
+        return reminders.stream()
+                .map(reminder -> List.<Object>of(reminder.getId(), reminder.getMessage(), reminder.getQuota(),
+                        reminder.getTracker().getPredicate().getTags()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<List<Object>> savedFieldsOfWishReminders(List<WishReminder> reminders) {
+        return reminders.stream()
+                .map(reminder -> List.<Object>of(reminder.getId(), reminder.getMessage(),
+                        reminder.getWish() == null ? Entry.NO_ID : reminder.getWish().getId()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long getNextId() {
+        return nextId;
+    }
+
+    @Override
+    public ObservableList<Entry> getEntryList() {
+        return entries;
+    }
+
+    @Override
+    public ObservableList<Expense> getExpenseList() {
+        return expenses;
+    }
+
+    @Override
+    public ObservableList<Income> getIncomeList() {
+        return incomes;
+    }
+
+    @Override
+    public ObservableList<Wish> getWishList() {
+        return wishes;
+    }
+
+    @Override
+    public ObservableList<AutoExpense> getAutoExpenseList() {
+        return autoExpenses;
+    }
+
+    @Override
+    public ObservableList<ExpenseReminder> getExpenseReminderList() {
+        return expenseReminders;
+    }
+
+    @Override
+    public ObservableList<ExpenseTracker> getExpenseTrackerList() {
+        return expenseTrackers;
+    }
+
+    @Override
+    public ObservableList<WishReminder> getWishReminderList() {
+        return wishReminders;
+    }
+
+    /**
+     * Returns true if both snapshots hold the same saved lists, so that saving either writes the same data.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return expenses.equals(otherSnapshot.expenses)
+                && incomes.equals(otherSnapshot.incomes)
+                && wishes.equals(otherSnapshot.wishes)
+                && savedFieldsOfExpenseReminders(expenseReminders)
+                        .equals(savedFieldsOfExpenseReminders(otherSnapshot.expenseReminders))
+                && savedFieldsOfWishReminders(wishReminders)
+                        .equals(savedFieldsOfWishReminders(otherSnapshot.wishReminders))
+                && nextId == otherSnapshot.nextId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(expenses, incomes, wishes, savedFieldsOfExpenseReminders(expenseReminders),
+                savedFieldsOfWishReminders(wishReminders), nextId);
+    }
+
+}
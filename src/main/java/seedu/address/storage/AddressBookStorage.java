@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.HistoryLoader;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -42,4 +43,25 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Captures what {@link #saveAddressBook(ReadOnlyAddressBook)} would write for {@code addressBook} now, so that it
+     * can be written later, possibly from another thread, while {@code addressBook} keeps changing.
+     * Must be called from the thread that changes {@code addressBook}.
+     * Writing the most recently prepared save also writes everything prepared before it, so earlier ones may be
+     * dropped without being written.
+     * @param addressBook cannot be null.
+     */
+    default PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+        return () -> saveAddressBook(snapshot);
+    }
+
+    /**
+     * Returns the loader of the entries that {@link #readAddressBook()} left in storage, if this storage only
+     * reads part of the address book up front.
+     */
+    default Optional<HistoryLoader> getHistoryLoader() {
+        return Optional.empty();
+    }
+
 }
@@ -0,0 +1,410 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Amount;
+import seedu.address.model.person.Date;
+import seedu.address.model.person.Description;
+import seedu.address.model.person.Entry;
+import seedu.address.model.person.Expense;
+import seedu.address.model.person.ExpenseContainsTagPredicate;
+import seedu.address.model.person.ExpenseReminder;
+import seedu.address.model.person.ExpenseTracker;
+import seedu.address.model.person.Income;
+import seedu.address.model.person.Wish;
+import seedu.address.model.person.WishReminder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a versioned, columnar binary file on the hard disk.
+ *
+ * The file starts with a magic number, a format version, the next id to give out and a dictionary of every tag name.
+ * Expenses, incomes and wishes follow as one block each, holding a dictionary of descriptions and then one column
+ * per field: description ids, entry ids, amounts in cents, dates as epoch days, tag counts and the flattened tag ids.
+ * Expense reminders and wish reminders come last, one record each, where a wish reminder refers to its wish by id,
+ * or by -1 if it has none.
+ * Files of version 1, which have no ids and refer to wishes by position, can still be read.
+ *
+ * Files are read into memory in one go and closed, and their columns are then decoded straight from that buffer.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC_NUMBER = 0x47544142; // "GTAB"
+    public static final short FORMAT_VERSION = 2;
+    /** The first version that stores the ids of entries and reminders. */
+    public static final short FIRST_VERSION_WITH_IDS = 2;
+    /** Amounts are stored as a whole number of hundredths. */
+    public static final long AMOUNT_SCALE = Amount.CENTS_PER_DOLLAR;
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "File is not a binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported";
+    public static final String MESSAGE_CORRUPTED = "Binary address book refers to missing %s %d";
+
+    /** Stands for the wish of a wish reminder whose wish no longer exists. */
+    private static final long NO_WISH_ID = -1;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(read(new ByteBufferInput(FileUtil.readIntoBuffer(filePath))));
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        // written in full next to the file before replacing it, so a failed save leaves the old file intact
+        Path tempFile = FileUtil.createTempFileNextTo(filePath);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(tempFile), BUFFER_SIZE))) {
+            write(addressBook, out);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        FileUtil.moveIntoPlace(tempFile, filePath);
+    }
+
+    //// writing
+
+    private static void write(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC_NUMBER);
+        out.writeShort(FORMAT_VERSION);
+        out.writeLong(addressBook.getNextId());
+
+        Map<Tag, Integer> tagIds = new HashMap<>();
+        List<Tag> tags = new ArrayList<>();
+        for (Entry entry : addressBook.getEntryList()) {
+            collectTags(entry.getTags(), tagIds, tags);
+        }
+        for (ExpenseReminder reminder : addressBook.getExpenseReminderList()) {
+            collectTags(reminder.getTracker().getPredicate().getTags(), tagIds, tags);
+        }
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeUTF(tag.tagName);
+        }
+
+        writeEntries(addressBook.getExpenseList(), tagIds, out);
+        writeEntries(addressBook.getIncomeList(), tagIds, out);
+        writeEntries(addressBook.getWishList(), tagIds, out);
+
+        out.writeInt(addressBook.getExpenseReminderList().size());
+        for (ExpenseReminder reminder : addressBook.getExpenseReminderList()) {
+            out.writeLong(reminder.getId());
+            out.writeUTF(reminder.getMessage());
+            out.writeLong(reminder.getQuota());
+            writeTagIds(reminder.getTracker().getPredicate().getTags(), tagIds, out);
+        }
+
+        out.writeInt(addressBook.getWishReminderList().size());
+        for (WishReminder reminder : addressBook.getWishReminderList()) {
+            out.writeLong(reminder.getId());
+            out.writeUTF(reminder.getMessage());
+            out.writeLong(reminder.getWish() == null ? NO_WISH_ID : reminder.getWish().getId());
+        }
+    }
+
+    private static void collectTags(Set<Tag> entryTags, Map<Tag, Integer> tagIds, List<Tag> tags) {
+        for (Tag tag : entryTags) {
+            if (!tagIds.containsKey(tag)) {
+                tagIds.put(tag, tags.size());
+                tags.add(tag);
+            }
+        }
+    }
+
+    private static void writeTagIds(Set<Tag> entryTags, Map<Tag, Integer> tagIds, DataOutputStream out)
+            throws IOException {
+        out.writeInt(entryTags.size());
+        for (Tag tag : entryTags) {
+            out.writeInt(tagIds.get(tag));
+        }
+    }
+
+    private static void writeEntries(List<? extends Entry> entries, Map<Tag, Integer> tagIds, DataOutputStream out)
+            throws IOException {
+        int size = entries.size();
+        out.writeInt(size);
+
+        Map<String, Integer> descIds = new HashMap<>();
+        List<String> descs = new ArrayList<>();
+        int[] descColumn = new int[size];
+        for (int i = 0; i < size; i++) {
+            String desc = entries.get(i).getDesc().fullDesc;
+            Integer id = descIds.get(desc);
+            if (id == null) {
+                id = descs.size();
+                descIds.put(desc, id);
+                descs.add(desc);
+            }
+            descColumn[i] = id;
+        }
+        out.writeInt(descs.size());
+        for (String desc : descs) {
+            out.writeUTF(desc);
+        }
+        for (int id : descColumn) {
+            out.writeInt(id);
+        }
+        for (Entry entry : entries) {
+            out.writeLong(entry.getId());
+        }
+
+        for (Entry entry : entries) {
+            out.writeLong(entry.getAmount().getCents());
+        }
+        for (Entry entry : entries) {
+            out.writeInt(Math.toIntExact(entry.getDate().getEpochDay()));
+        }
+        for (Entry entry : entries) {
+            out.writeInt(entry.getTags().size());
+        }
+        for (Entry entry : entries) {
+            for (Tag tag : entry.getTags()) {
+                out.writeInt(tagIds.get(tag));
+            }
+        }
+    }
+
+    //// reading
+
+    /**
+     * Functional interface for building one kind of entry out of its columns.
+     */
+    @FunctionalInterface
+    private interface EntryFactory<T extends Entry> {
+        T create(Description desc, Date date, Amount amount, Set<Tag> tags);
+    }
+
+    private static AddressBook read(DataInput in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        short version = in.readShort();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        boolean hasIds = version >= FIRST_VERSION_WITH_IDS;
+
+        AddressBook addressBook = new AddressBook();
+        if (hasIds) {
+            addressBook.reserveIdsBelow(in.readLong());
+        }
+
+        Tag[] tags = new Tag[readCount(in, "tag")];
+        for (int i = 0; i < tags.length; i++) {
+            String tagName = in.readUTF();
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags[i] = Tag.of(tagName);
+        }
+
+        for (Expense expense : readEntries(in, tags, hasIds, Expense::new)) {
+            addressBook.addExpense(expense);
+        }
+        for (Income income : readEntries(in, tags, hasIds, Income::new)) {
+            addressBook.addIncome(income);
+        }
+        List<Wish> wishes = readEntries(in, tags, hasIds, Wish::new);
+        for (Wish wish : wishes) {
+            addressBook.addWish(wish);
+        }
+
+        int reminderCount = readCount(in, "expense reminder");
+        for (int i = 0; i < reminderCount; i++) {
+            long id = hasIds ? in.readLong() : ExpenseReminder.NO_ID;
+            String message = in.readUTF();
+            long quota = in.readLong();
+            Set<Tag> reminderTags = readTagIds(in, tags, in.readInt());
+            ExpenseTracker tracker = new ExpenseTracker(new ExpenseContainsTagPredicate(reminderTags));
+            ExpenseReminder reminder = new ExpenseReminder(message, quota, tracker);
+            reminder.setId(id);
+            addressBook.addExpenseReminder(reminder);
+        }
+
+        int wishReminderCount = readCount(in, "wish reminder");
+        for (int i = 0; i < wishReminderCount; i++) {
+            long id = hasIds ? in.readLong() : WishReminder.NO_ID;
+            String message = in.readUTF();
+            long wishId = hasIds ? in.readLong() : NO_WISH_ID;
+            Wish wish = null;
+            // a reminder saved without a wish is read back without one
+            if (!hasIds || wishId != NO_WISH_ID) {
+                Optional<Wish> found = hasIds ? findWish(addressBook, wishId) : findWish(wishes, in.readInt());
+                if (!found.isPresent()) {
+                    logger.info("Dropping wish reminder \"" + message + "\" as its wish no longer exists");
+                    continue;
+                }
+                wish = found.get();
+            }
+            WishReminder reminder = new WishReminder(message, wish);
+            reminder.setId(id);
+            addressBook.addWishReminder(reminder);
+        }
+        return addressBook;
+    }
+
+    private static Optional<Wish> findWish(AddressBook addressBook, long wishId) {
+        return addressBook.getEntryById(wishId).filter(entry -> entry instanceof Wish).map(entry -> (Wish) entry);
+    }
+
+    /**
+     * Returns the wish at {@code wishIndex} of {@code wishes}, as referred to by files of version 1, where -1
+     * stands for a wish that no longer exists.
+     */
+    private static Optional<Wish> findWish(List<Wish> wishes, int wishIndex) throws IllegalValueException {
+        if (wishIndex == -1) {
+            return Optional.empty();
+        }
+        if (wishIndex < 0 || wishIndex >= wishes.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "wish", wishIndex));
+        }
+        return Optional.of(wishes.get(wishIndex));
+    }
+
+    private static <T extends Entry> List<T> readEntries(DataInput in, Tag[] tags, boolean hasIds,
+            EntryFactory<T> factory) throws IOException, IllegalValueException {
+        int size = readCount(in, "entry");
+
+        Description[] descs = new Description[readCount(in, "description")];
+        for (int i = 0; i < descs.length; i++) {
+            String desc = in.readUTF();
+            if (!Description.isValidDescription(desc)) {
+                throw new IllegalValueException(Description.MESSAGE_CONSTRAINTS);
+            }
+            descs[i] = new Description(desc);
+        }
+
+        int[] descColumn = new int[size];
+        for (int i = 0; i < size; i++) {
+            descColumn[i] = in.readInt();
+            if (descColumn[i] < 0 || descColumn[i] >= descs.length) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "description", descColumn[i]));
+            }
+        }
+        long[] idColumn = new long[size];
+        for (int i = 0; hasIds && i < size; i++) {
+            idColumn[i] = in.readLong();
+        }
+        long[] amountColumn = new long[size];
+        for (int i = 0; i < size; i++) {
+            amountColumn[i] = in.readLong();
+        }
+        int[] dateColumn = new int[size];
+        for (int i = 0; i < size; i++) {
+            dateColumn[i] = in.readInt();
+        }
+        int[] tagCountColumn = new int[size];
+        for (int i = 0; i < size; i++) {
+            tagCountColumn[i] = in.readInt();
+        }
+
+        List<T> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            T entry = factory.create(descs[descColumn[i]], Date.ofEpochDay(dateColumn[i]),
+                    Amount.ofCents(amountColumn[i]), readTagIds(in, tags, tagCountColumn[i]));
+            entry.setId(idColumn[i]);
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private static Set<Tag> readTagIds(DataInput in, Tag[] tags, int count)
+            throws IOException, IllegalValueException {
+        if (count < 0) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "tag count", count));
+        }
+        Set<Tag> entryTags = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            int id = in.readInt();
+            if (id < 0 || id >= tags.length) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "tag", id));
+            }
+            entryTags.add(tags[id]);
+        }
+        return entryTags;
+    }
+
+    private static int readCount(DataInput in, String what) throws IOException, IllegalValueException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, what + " count", count));
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,435 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ *
+ * Instead of rewriting the whole file after every command, each add, edit or delete made to the saved
+ * {@code AddressBook} is appended to {@code <file>.journal} as one compact json record per line.
+ * Reading replays the journal on top of the snapshot. Once the journal grows past a threshold, a new
+ * snapshot is written in the background and the journal is cut back to the records it does not contain.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    /** Changes touching more elements than this are cheaper to save as a new snapshot. */
+    private static final int MAX_JOURNALED_CHANGE_SIZE = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final int compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Guards the snapshot and journal files, which are written by the saving and compactor threads. */
+    private final Object fileLock = new Object();
+
+    /** Guards the outbox, which holds changes that have been prepared for saving but not written yet. */
+    private final Object outboxLock = new Object();
+
+    // Only used by the thread that changes the tracked address book.
+    private final List<JsonAdaptedJournalRecord> pendingRecords = new ArrayList<>();
+    private final List<Runnable> listenerRemovers = new ArrayList<>();
+    private ReadOnlyAddressBook trackedAddressBook;
+    private boolean isSnapshotNeeded = true;
+    private long lastSequence = 0;
+
+    private AddressBookSnapshot outboxSnapshot;
+    private long outboxSnapshotSequence;
+    private List<JsonAdaptedJournalRecord> outboxRecords = new ArrayList<>();
+
+    private volatile boolean isCompactionPending = false;
+    private long lastSnapshotSequence = 0;
+    private volatile int journalSize = 0;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that compacts its journal into a new snapshot after {@code compactionThreshold} records.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalPath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Any journal kept next to {@code filePath} is replayed on top of the snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        Path journalPath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+
+        synchronized (fileLock) {
+            boolean hasSnapshot = FileUtil.isFileExists(filePath);
+            if (!hasSnapshot && !FileUtil.isFileExists(journalPath)) {
+                logger.info("Json file " + filePath + " not found");
+                return Optional.empty();
+            }
+
+            try {
+                JsonAddressBookStreamReader reader = new JsonAddressBookStreamReader(filePath);
+                AddressBook addressBook = hasSnapshot ? reader.read() : new AddressBook();
+                long sequence = replayJournal(journalPath, reader.getJournalSequence(), addressBook);
+
+                if (filePath.equals(this.filePath)) {
+                    lastSequence = Math.max(lastSequence, sequence);
+                }
+                return Optional.of(addressBook);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            } catch (IOException ioe) {
+                logger.warning("Error reading from " + filePath + " or its journal: " + ioe);
+                throw new DataConversionException(ioe);
+            }
+        }
+    }
+
+    /**
+     * Applies every record in {@code journalPath} newer than {@code snapshotSequence} to {@code addressBook}.
+     * The journal is read into memory in one go and parsed from there. Every complete record ends with a
+     * line break, so anything after the last one is a write that was cut short and is ignored.
+     *
+     * @return the sequence number of the last record in the journal.
+     */
+    private long replayJournal(Path journalPath, long snapshotSequence, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        long sequence = snapshotSequence;
+        if (!FileUtil.isFileExists(journalPath)) {
+            return sequence;
+        }
+
+        ByteBuffer journal = FileUtil.readIntoBuffer(journalPath);
+        int end = journal.limit();
+        while (end > 0 && journal.get(end - 1) != '\n') {
+            end--;
+        }
+        if (end < journal.limit()) {
+            logger.warning("Ignoring incomplete last record in " + journalPath);
+        }
+        ByteBuffer completeRecords = journal.duplicate();
+        completeRecords.limit(end);
+
+        int replayed = 0;
+        try (JsonParser parser = JsonUtil.createParser(new ByteBufferInput(completeRecords))) {
+            while (parser.nextToken() != null) {
+                JsonAdaptedJournalRecord record = JsonUtil.readValue(parser, JsonAdaptedJournalRecord.class);
+                sequence = Math.max(sequence, record.getSeq());
+                if (record.getSeq() > snapshotSequence) {
+                    record.applyTo(addressBook);
+                    replayed++;
+                }
+            }
+        }
+        logger.fine("Replayed " + replayed + " journal records from " + journalPath);
+        return sequence;
+    }
+
+    /**
+     * Saves the changes made to {@code addressBook} since the last save.
+     * If {@code addressBook} is not the one saved previously, or it was changed in bulk, a full snapshot
+     * is written instead. Saving an unchanged address book does not touch the disk.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        prepareSave(addressBook).write();
+    }
+
+    /**
+     * Moves the changes made to {@code addressBook} since the last call into the outbox, from which the returned
+     * save writes them. Every save returned writes the whole outbox, so running any one of them is enough.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        if (addressBook != trackedAddressBook) {
+            track(addressBook);
+        }
+
+        boolean shouldCompact;
+        synchronized (outboxLock) {
+            if (isSnapshotNeeded) {
+                outboxSnapshot = new AddressBookSnapshot(addressBook);
+                outboxSnapshotSequence = ++lastSequence;
+                outboxRecords = new ArrayList<>();
+                isSnapshotNeeded = false;
+            } else {
+                outboxRecords.addAll(pendingRecords);
+            }
+            pendingRecords.clear();
+            shouldCompact = outboxSnapshot == null && !isCompactionPending
+                    && journalSize + outboxRecords.size() >= compactionThreshold;
+        }
+
+        if (shouldCompact) {
+            isCompactionPending = true;
+            AddressBookSnapshot frozen = new AddressBookSnapshot(addressBook);
+            long sequence = lastSequence;
+            compactor.submit(() -> compact(frozen, sequence));
+        }
+        return this::writeOutbox;
+    }
+
+    /**
+     * Writes the snapshot and journal records waiting in the outbox, removing them from it once written.
+     */
+    private void writeOutbox() throws IOException {
+        synchronized (fileLock) {
+            AddressBookSnapshot snapshot;
+            long snapshotSequence;
+            List<JsonAdaptedJournalRecord> records;
+            int recordCount;
+            synchronized (outboxLock) {
+                snapshot = outboxSnapshot;
+                snapshotSequence = outboxSnapshotSequence;
+                records = outboxRecords;
+                recordCount = records.size();
+            }
+
+            if (snapshot != null) {
+                if (snapshotSequence > lastSnapshotSequence) {
+                    writeSnapshotAndTruncateJournal(snapshot, snapshotSequence);
+                }
+                synchronized (outboxLock) {
+                    if (outboxSnapshot == snapshot) {
+                        outboxSnapshot = null;
+                    }
+                }
+            }
+            if (recordCount > 0) {
+                List<JsonAdaptedJournalRecord> written;
+                synchronized (outboxLock) {
+                    written = new ArrayList<>(records.subList(0, recordCount));
+                }
+                appendToJournal(written);
+                synchronized (outboxLock) {
+                    records.subList(0, recordCount).clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but always writes a full snapshot, with no
+     * journal, to {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        FileUtil.createIfMissing(filePath);
+        new JsonAddressBookStreamWriter(filePath, false).write(addressBook);
+    }
+
+    /**
+     * Starts recording the changes made to {@code addressBook}, and stops recording those of the address book
+     * saved previously.
+     */
+    private void track(ReadOnlyAddressBook addressBook) {
+        listenerRemovers.forEach(Runnable::run);
+        listenerRemovers.clear();
+        pendingRecords.clear();
+
+        trackedAddressBook = addressBook;
+        isSnapshotNeeded = true;
+        listen(addressBook.getExpenseList(), JsonAdaptedJournalRecord.LIST_EXPENSES);
+        listen(addressBook.getIncomeList(), JsonAdaptedJournalRecord.LIST_INCOMES);
+        listen(addressBook.getWishList(), JsonAdaptedJournalRecord.LIST_WISHES);
+        listen(addressBook.getExpenseReminderList(), JsonAdaptedJournalRecord.LIST_EXPENSE_REMINDERS);
+        // Wish reminders are only stored in snapshots, so any change to them calls for a new one.
+        listen(addressBook.getWishReminderList(), null);
+    }
+
+    private <T> void listen(ObservableList<T> list, String listName) {
+        ListChangeListener<T> listener = change -> record(change, listName);
+        list.addListener(listener);
+        listenerRemovers.add(() -> list.removeListener(listener));
+    }
+
+    /**
+     * Turns {@code change} into journal records, or marks that a snapshot is needed if it cannot be journaled.
+     */
+    private <T> void record(ListChangeListener.Change<? extends T> change, String listName) {
+        while (change.next() && !isSnapshotNeeded) {
+            if (listName == null || change.wasPermutated() || change.wasUpdated()
+                    || change.getAddedSize() > MAX_JOURNALED_CHANGE_SIZE
+                    || change.getRemovedSize() > MAX_JOURNALED_CHANGE_SIZE) {
+                isSnapshotNeeded = true;
+            } else if (change.wasReplaced() && change.getAddedSize() == 1 && change.getRemovedSize() == 1) {
+                pendingRecords.add(JsonAdaptedJournalRecord.of(++lastSequence, JsonAdaptedJournalRecord.OP_SET,
+                        listName, change.getFrom(), change.getAddedSubList().get(0)));
+            } else if (change.wasReplaced()) {
+                isSnapshotNeeded = true;
+            } else if (change.wasRemoved()) {
+                for (T removed : change.getRemoved()) {
+                    pendingRecords.add(JsonAdaptedJournalRecord.of(++lastSequence,
+                            JsonAdaptedJournalRecord.OP_REMOVE, listName, change.getFrom(), removed));
+                }
+            } else if (change.wasAdded() && change.getTo() == change.getList().size()) {
+                List<? extends T> added = change.getAddedSubList();
+                for (int i = 0; i < added.size(); i++) {
+                    pendingRecords.add(JsonAdaptedJournalRecord.of(++lastSequence, JsonAdaptedJournalRecord.OP_ADD,
+                            listName, change.getFrom() + i, added.get(i)));
+                }
+            } else if (change.wasAdded()) {
+                isSnapshotNeeded = true;
+            }
+        }
+        if (isSnapshotNeeded) {
+            pendingRecords.clear();
+        }
+    }
+
+    /**
+     * Appends {@code records} to the journal in a single write.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+
+        synchronized (fileLock) {
+            FileUtil.createParentDirsOfFile(journalPath);
+            Files.write(journalPath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            journalSize += records.size();
+        }
+    }
+
+    private void writeSnapshotAndTruncateJournal(ReadOnlyAddressBook addressBook, long sequence)
+            throws IOException {
+        synchronized (fileLock) {
+            FileUtil.createParentDirsOfFile(filePath);
+            Path tempFile = FileUtil.createTempFileNextTo(filePath);
+            new JsonAddressBookStreamWriter(tempFile, true).write(addressBook, sequence);
+            FileUtil.moveIntoPlace(tempFile, filePath);
+            Files.deleteIfExists(journalPath);
+            lastSnapshotSequence = sequence;
+            journalSize = 0;
+        }
+    }
+
+    /**
+     * Writes {@code snapshot}, which contains every journal record up to {@code sequence}, in the background and
+     * drops those records from the journal.
+     * A failed compaction is logged and retried at a later save; the journal still holds every change.
+     */
+    private void compact(AddressBookSnapshot snapshot, long sequence) {
+        try {
+            Path tempFile = FileUtil.createTempFileNextTo(filePath);
+            new JsonAddressBookStreamWriter(tempFile, true).write(snapshot, sequence);
+            synchronized (fileLock) {
+                if (sequence <= lastSnapshotSequence) {
+                    Files.deleteIfExists(tempFile);
+                    return;
+                }
+                FileUtil.moveIntoPlace(tempFile, filePath);
+                lastSnapshotSequence = sequence;
+                journalSize = dropJournalRecordsUpTo(lastSnapshotSequence);
+            }
+            logger.fine("Compacted journal " + journalPath + " up to record " + lastSnapshotSequence);
+        } catch (IOException ioe) {
+            logger.warning("Could not compact journal " + journalPath + ": " + ioe);
+        } finally {
+            isCompactionPending = false;
+        }
+    }
+
+    /**
+     * Rewrites the journal with only the records newer than {@code sequence}.
+     *
+     * @return the number of records left in the journal.
+     */
+    private int dropJournalRecordsUpTo(long sequence) throws IOException {
+        if (!FileUtil.isFileExists(journalPath)) {
+            return 0;
+        }
+
+        StringBuilder kept = new StringBuilder();
+        int keptCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                if (JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class).getSeq() > sequence) {
+                    kept.append(line).append('\n');
+                    keptCount++;
+                }
+            }
+        }
+
+        Path tempFile = FileUtil.createTempFileNextTo(journalPath);
+        Files.write(tempFile, kept.toString().getBytes(StandardCharsets.UTF_8));
+        FileUtil.moveIntoPlace(tempFile, journalPath);
+        return keptCount;
+    }
+
+}
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -25,7 +26,7 @@ class JsonAdaptedEntry {
 
     private final String desc;
     private final String time;
-    private final double amt;
+    private final BigDecimal amt;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
     /**
@@ -33,7 +34,7 @@ class JsonAdaptedEntry {
      */
     @JsonCreator
     public JsonAdaptedEntry(@JsonProperty("desc") String desc, @JsonProperty("amt") String time,
-                            @JsonProperty("amt") double amt,
+                            @JsonProperty("amt") BigDecimal amt,
                             @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
         this.desc = desc;
         this.amt = amt;
@@ -49,7 +50,7 @@ class JsonAdaptedEntry {
     public JsonAdaptedEntry(Entry source) {
         desc = source.getDesc().fullDesc;
         time = source.getDate().toString();
-        amt = source.getAmount().value;
+        amt = source.getAmount().toBigDecimal();
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -74,7 +75,10 @@ class JsonAdaptedEntry {
             throw new IllegalValueException(Description.MESSAGE_CONSTRAINTS);
         }
         final Description modelDesc = new Description(desc);
-        final Date modelTime = new Date(time);
+        final Date modelTime = Date.of(time);
+        if (amt == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Amount.class.getSimpleName()));
+        }
         final Amount modelAmt = new Amount(amt);
 
         final Set<Tag> modelTags = new HashSet<>(entryTags);
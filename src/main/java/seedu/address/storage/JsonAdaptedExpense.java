@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -24,17 +25,20 @@ class JsonAdaptedExpense {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Expense's %s field is missing!";
 
+    private final long id;
     private final String desc;
     private final String date;
-    private final double amt;
+    private final BigDecimal amt;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedExpense(@JsonProperty("desc") String desc, @JsonProperty("amt") double amt,
-                              @JsonProperty("date") String date, @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+    public JsonAdaptedExpense(@JsonProperty("id") long id, @JsonProperty("desc") String desc,
+                              @JsonProperty("amt") BigDecimal amt, @JsonProperty("date") String date,
+                              @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.id = id;
         this.desc = desc;
         this.amt = amt;
         this.date = date;
@@ -48,8 +52,9 @@ class JsonAdaptedExpense {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedExpense(Expense source) {
+        id = source.getId();
         desc = source.getDesc().fullDesc;
-        amt = source.getAmount().value;
+        amt = source.getAmount().toBigDecimal();
         date = source.getDate().toString();
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
@@ -76,12 +81,17 @@ class JsonAdaptedExpense {
         }
         final Description modelDesc = new Description(desc);
 
-        final Date modelTime = new Date(date);
+        final Date modelTime = Date.of(date);
 
+        if (amt == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Amount.class.getSimpleName()));
+        }
         final Amount modelAmt = new Amount(amt);
 
         final Set<Tag> modelTags = new HashSet<>(entryTags);
-        return new Expense(modelDesc, modelTime, modelAmt, modelTags);
+        final Expense modelExpense = new Expense(modelDesc, modelTime, modelAmt, modelTags);
+        modelExpense.setId(id);
+        return modelExpense;
     }
 
 }
@@ -24,6 +24,7 @@ class JsonAdaptedExpenseReminder {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Expense's %s field is missing!";
 
+    private long id;
     private String message;
     private long quota;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
@@ -33,9 +34,11 @@ class JsonAdaptedExpenseReminder {
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedExpenseReminder(@JsonProperty("desc") String desc,
+    public JsonAdaptedExpenseReminder(@JsonProperty("id") long id,
+                                      @JsonProperty("message") String desc,
                                       @JsonProperty("quota") long quota,
                                       @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.id = id;
         this.message = desc;
         this.quota = quota;
         if (tagged != null) {
@@ -47,6 +50,7 @@ class JsonAdaptedExpenseReminder {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedExpenseReminder(ExpenseReminder source) {
+        id = source.getId();
         message = source.getMessage();
         quota = source.getQuota();
         tagged.addAll(source.getTracker().getPredicate().getTags().stream()
@@ -73,7 +77,9 @@ class JsonAdaptedExpenseReminder {
         final Set<Tag> modelTags = new HashSet<>(entryTags);
         final ExpenseContainsTagPredicate predicate = new ExpenseContainsTagPredicate(modelTags);
         final ExpenseTracker tracker = new ExpenseTracker(predicate);
-        return new ExpenseReminder(modelMessage, modelQuota, tracker);
+        final ExpenseReminder modelReminder = new ExpenseReminder(modelMessage, modelQuota, tracker);
+        modelReminder.setId(id);
+        return modelReminder;
     }
 
 }
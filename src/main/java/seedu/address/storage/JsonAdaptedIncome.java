@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -24,17 +25,20 @@ class JsonAdaptedIncome {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Expense's %s field is missing!";
 
+    private final long id;
     private final String desc;
     private final String time;
-    private final double amt;
+    private final BigDecimal amt;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedIncome(@JsonProperty("desc") String desc, @JsonProperty("amt") double amt,
-                              @JsonProperty("time") String time, @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+    public JsonAdaptedIncome(@JsonProperty("id") long id, @JsonProperty("desc") String desc,
+                             @JsonProperty("amt") BigDecimal amt, @JsonProperty("time") String time,
+                             @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.id = id;
         this.desc = desc;
         this.amt = amt;
         this.time = time;
@@ -48,8 +52,9 @@ class JsonAdaptedIncome {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedIncome(Income source) {
+        id = source.getId();
         desc = source.getDesc().fullDesc;
-        amt = source.getAmount().value;
+        amt = source.getAmount().toBigDecimal();
         time = source.getDate().toString();
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
@@ -76,12 +81,17 @@ class JsonAdaptedIncome {
         }
         final Description modelDesc = new Description(desc);
 
-        final Date modelTime = new Date(time);
+        final Date modelTime = Date.of(time);
 
+        if (amt == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Amount.class.getSimpleName()));
+        }
         final Amount modelAmt = new Amount(amt);
 
         final Set<Tag> modelTags = new HashSet<>(entryTags);
-        return new Income(modelDesc, modelTime, modelAmt, modelTags);
+        final Income modelIncome = new Income(modelDesc, modelTime, modelAmt, modelTags);
+        modelIncome.setId(id);
+        return modelIncome;
     }
 
 }
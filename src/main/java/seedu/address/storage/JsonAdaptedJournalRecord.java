@@ -0,0 +1,233 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Entry;
+import seedu.address.model.person.Expense;
+import seedu.address.model.person.ExpenseReminder;
+import seedu.address.model.person.Income;
+import seedu.address.model.person.Reminder;
+import seedu.address.model.person.Wish;
+
+/**
+ * Jackson-friendly version of a single mutation of an {@link AddressBook} list.
+ * One record is written per line of the journal kept by {@link JournaledAddressBookStorage}.
+ * Removes and sets find the element they change by its id, falling back to its index for records written before
+ * elements had ids.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String OP_ADD = "add";
+    public static final String OP_REMOVE = "remove";
+    public static final String OP_SET = "set";
+
+    public static final String LIST_EXPENSES = "expenses";
+    public static final String LIST_INCOMES = "incomes";
+    public static final String LIST_WISHES = "wishes";
+    public static final String LIST_EXPENSE_REMINDERS = "expenseReminders";
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record %d is not a valid %s on %s";
+    public static final String MESSAGE_INVALID_INDEX = "Journal record %d refers to missing %s index %d";
+    public static final String MESSAGE_INVALID_ID = "Journal record %d refers to missing %s id %d";
+
+    private final long seq;
+    private final String op;
+    private final String list;
+    private final int index;
+    private final long id;
+    private final JsonAdaptedExpense expense;
+    private final JsonAdaptedIncome income;
+    private final JsonAdaptedWish wish;
+    private final JsonAdaptedExpenseReminder expenseReminder;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("seq") long seq, @JsonProperty("op") String op,
+                                    @JsonProperty("list") String list, @JsonProperty("index") int index,
+                                    @JsonProperty("id") long id,
+                                    @JsonProperty("expense") JsonAdaptedExpense expense,
+                                    @JsonProperty("income") JsonAdaptedIncome income,
+                                    @JsonProperty("wish") JsonAdaptedWish wish,
+                                    @JsonProperty("expenseReminder") JsonAdaptedExpenseReminder expenseReminder) {
+        this.seq = seq;
+        this.op = op;
+        this.list = list;
+        this.index = index;
+        this.id = id;
+        this.expense = expense;
+        this.income = income;
+        this.wish = wish;
+        this.expenseReminder = expenseReminder;
+    }
+
+    /**
+     * Creates a record of {@code op} at {@code index} of {@code list}.
+     * {@code element} is the new value for adds and sets, and the removed element for removes, of which only the
+     * id is recorded.
+     */
+    public static JsonAdaptedJournalRecord of(long seq, String op, String list, int index, Object element) {
+        boolean hasElement = !OP_REMOVE.equals(op);
+        return new JsonAdaptedJournalRecord(seq, op, list, index, idOf(element),
+                hasElement && element instanceof Expense ? new JsonAdaptedExpense((Expense) element) : null,
+                hasElement && element instanceof Income ? new JsonAdaptedIncome((Income) element) : null,
+                hasElement && element instanceof Wish ? new JsonAdaptedWish((Wish) element) : null,
+                hasElement && element instanceof ExpenseReminder
+                        ? new JsonAdaptedExpenseReminder((ExpenseReminder) element) : null);
+    }
+
+    private static long idOf(Object element) {
+        if (element instanceof Entry) {
+            return ((Entry) element).getId();
+        } else if (element instanceof Reminder) {
+            return ((Reminder) element).getId();
+        }
+        return Entry.NO_ID;
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    /**
+     * Replays this record on {@code addressBook}.
+     *
+     * @throws IllegalValueException if the record is malformed, refers to an entry that does not exist,
+     *     or carries data that violates the model's constraints.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (op == null || list == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, seq, op, list));
+        }
+
+        switch (list) {
+        case LIST_EXPENSES:
+            Expense newExpense = expense == null ? null : expense.toModelType();
+            switch (op) {
+            case OP_ADD:
+                checkAppend(addressBook.getExpenseList(), newExpense);
+                addressBook.addExpense(newExpense);
+                return;
+            case OP_REMOVE:
+                addressBook.removeExpense(entryAt(addressBook.getExpenseList(), Expense.class, addressBook));
+                return;
+            case OP_SET:
+                checkPresent(newExpense);
+                addressBook.setExpense(entryAt(addressBook.getExpenseList(), Expense.class, addressBook), newExpense);
+                return;
+            default:
+                break;
+            }
+            break;
+        case LIST_INCOMES:
+            Income newIncome = income == null ? null : income.toModelType();
+            switch (op) {
+            case OP_ADD:
+                checkAppend(addressBook.getIncomeList(), newIncome);
+                addressBook.addIncome(newIncome);
+                return;
+            case OP_REMOVE:
+                addressBook.removeIncome(entryAt(addressBook.getIncomeList(), Income.class, addressBook));
+                return;
+            case OP_SET:
+                checkPresent(newIncome);
+                addressBook.setIncome(entryAt(addressBook.getIncomeList(), Income.class, addressBook), newIncome);
+                return;
+            default:
+                break;
+            }
+            break;
+        case LIST_WISHES:
+            Wish newWish = wish == null ? null : wish.toModelType();
+            switch (op) {
+            case OP_ADD:
+                checkAppend(addressBook.getWishList(), newWish);
+                addressBook.addWish(newWish);
+                return;
+            case OP_REMOVE:
+                addressBook.removeWish(entryAt(addressBook.getWishList(), Wish.class, addressBook));
+                return;
+            case OP_SET:
+                checkPresent(newWish);
+                addressBook.setWish(entryAt(addressBook.getWishList(), Wish.class, addressBook), newWish);
+                return;
+            default:
+                break;
+            }
+            break;
+        case LIST_EXPENSE_REMINDERS:
+            ExpenseReminder newReminder = expenseReminder == null ? null : expenseReminder.toModelType();
+            switch (op) {
+            case OP_ADD:
+                checkAppend(addressBook.getExpenseReminderList(), newReminder);
+                addressBook.addExpenseReminder(newReminder);
+                return;
+            case OP_REMOVE:
+                addressBook.removeExpenseReminder(expenseReminderAt(addressBook));
+                return;
+            case OP_SET:
+                checkPresent(newReminder);
+                addressBook.setExpenseReminder(expenseReminderAt(addressBook), newReminder);
+                return;
+            default:
+                break;
+            }
+            break;
+        default:
+            break;
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, seq, op, list));
+    }
+
+    /**
+     * Ensures that an add record carries an element and appends to the end of {@code target}, which is the
+     * only kind of add the journal writes.
+     */
+    private void checkAppend(List<?> target, Object element) throws IllegalValueException {
+        checkPresent(element);
+        if (index != target.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, seq, list, index));
+        }
+    }
+
+    private void checkPresent(Object element) throws IllegalValueException {
+        if (element == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, seq, op, list));
+        }
+    }
+
+    private <T extends Entry> T entryAt(List<T> target, Class<T> type, AddressBook addressBook)
+            throws IllegalValueException {
+        return elementAt(target, id -> addressBook.getEntryById(id).filter(type::isInstance).map(type::cast));
+    }
+
+    private ExpenseReminder expenseReminderAt(AddressBook addressBook) throws IllegalValueException {
+        return elementAt(addressBook.getExpenseReminderList(), addressBook::getExpenseReminderById);
+    }
+
+    /**
+     * Returns the element this record changes, found through {@code findById} if the record has an id, or at its
+     * index of {@code target} otherwise.
+     */
+    private <T> T elementAt(List<T> target, LongFunction<Optional<T>> findById) throws IllegalValueException {
+        if (id != Entry.NO_ID) {
+            return findById.apply(id).orElseThrow(() ->
+                    new IllegalValueException(String.format(MESSAGE_INVALID_ID, seq, list, id)));
+        }
+        if (index < 0 || index >= target.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, seq, list, index));
+        }
+        return target.get(index);
+    }
+
+}
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -25,17 +26,20 @@ class JsonAdaptedWish {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Expense's %s field is missing!";
 
+    private final long id;
     private final String desc;
     private final String time;
-    private final double amt;
+    private final BigDecimal amt;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedWish(@JsonProperty("desc") String desc, @JsonProperty("amt") double amt,
-                             @JsonProperty("time") String time, @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+    public JsonAdaptedWish(@JsonProperty("id") long id, @JsonProperty("desc") String desc,
+                           @JsonProperty("amt") BigDecimal amt, @JsonProperty("time") String time,
+                           @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.id = id;
         this.desc = desc;
         this.amt = amt;
         this.time = time;
@@ -49,8 +53,9 @@ class JsonAdaptedWish {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedWish(Wish source) {
+        id = source.getId();
         desc = source.getDesc().fullDesc;
-        amt = source.getAmount().value;
+        amt = source.getAmount().toBigDecimal();
         time = source.getDate().toString();
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
@@ -78,9 +83,14 @@ class JsonAdaptedWish {
         final Description modelDesc = new Description(desc);
 
 
-        final Date modelDate = new Date(time);
+        final Date modelDate = Date.of(time);
+        if (amt == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Amount.class.getSimpleName()));
+        }
         final Amount modelAmt = new Amount(amt);
         final Set<Tag> modelTags = new HashSet<>(entryTags);
-        return new Wish(modelDesc, modelDate, modelAmt, modelTags);
+        final Wish modelWish = new Wish(modelDesc, modelDate, modelAmt, modelTags);
+        modelWish.setId(id);
+        return modelWish;
     }
 }
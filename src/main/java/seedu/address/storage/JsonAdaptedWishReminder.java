@@ -11,21 +11,27 @@ import seedu.address.model.person.WishReminder;
 
 /**
  * Jackson-friendly version of {@link Entry}.
+ * The wish of the reminder is kept as a copy that carries the id of the wish, since the reminder may be read without
+ * the file that holds the wish. The address book points the reminder to the wish with that id once both are loaded.
+ * A reminder without a wish is kept with a null wish.
  */
 class JsonAdaptedWishReminder {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Expense's %s field is missing!";
 
+    private long id;
     private String message;
-    private Wish wish;
+    private JsonAdaptedWish wish;
 
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedWishReminder(@JsonProperty("desc") String desc,
-                                      @JsonProperty("wish") Wish wish) {
+    public JsonAdaptedWishReminder(@JsonProperty("id") long id,
+                                      @JsonProperty("message") String desc,
+                                      @JsonProperty("wish") JsonAdaptedWish wish) {
+        this.id = id;
         this.message = desc;
         this.wish = wish;
     }
@@ -34,8 +40,9 @@ class JsonAdaptedWishReminder {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedWishReminder(WishReminder source) {
+        id = source.getId();
         message = source.getMessage();
-        wish = source.getWish();
+        wish = source.getWish() == null ? null : new JsonAdaptedWish(source.getWish());
     }
 
     /**
@@ -49,8 +56,10 @@ class JsonAdaptedWishReminder {
                     Description.class.getSimpleName()));
         }
         final String modelMessage = message;
-        final Wish modelWish = wish;
-        return new WishReminder(modelMessage, modelWish);
+        final Wish modelWish = wish == null ? null : wish.toModelType();
+        final WishReminder modelReminder = new WishReminder(modelMessage, modelWish);
+        modelReminder.setId(id);
+        return modelReminder;
     }
 
 }
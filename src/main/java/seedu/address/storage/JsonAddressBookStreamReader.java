@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an address book saved in the format of {@link JsonSerializableAddressBook} one record at a time.
+ *
+ * Records are parsed on the calling thread and converted into the model in chunks on a fork-join pool while parsing
+ * carries on, then added to the {@code AddressBook} in their original order. Neither the file contents nor the full
+ * list of {@code JsonAdapted*} records are held in memory while loading.
+ */
+class JsonAddressBookStreamReader {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Address book file is not a json object";
+    public static final String MESSAGE_NOT_AN_ARRAY = "Field \"%s\" of the address book file is not a json array";
+
+    private final Path filePath;
+    private final AddressBook addressBook = new AddressBook();
+    private long journalSequence = 0;
+
+    public JsonAddressBookStreamReader(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Reads the whole file into a new {@code AddressBook}.
+     * The file must exist.
+     *
+     * @throws IOException if the file cannot be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook read() throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_OBJECT);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                readField(parser, field);
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the journal sequence number stored in the file, or 0 if there was none.
+     * Only meaningful after {@link #read()}.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    private void readField(JsonParser parser, String field) throws IOException, IllegalValueException {
+        switch (field) {
+        case "expenses":
+            readArray(parser, field, JsonAdaptedExpense.class, JsonAdaptedExpense::toModelType,
+                    addressBook::addExpense);
+            break;
+        case "incomes":
+            readArray(parser, field, JsonAdaptedIncome.class, JsonAdaptedIncome::toModelType, addressBook::addIncome);
+            break;
+        case "wishes":
+            readArray(parser, field, JsonAdaptedWish.class, JsonAdaptedWish::toModelType, addressBook::addWish);
+            break;
+        case "expenseReminders":
+            readArray(parser, field, JsonAdaptedExpenseReminder.class, JsonAdaptedExpenseReminder::toModelType,
+                    addressBook::addExpenseReminder);
+            break;
+        case "wishReminders":
+            readArray(parser, field, JsonAdaptedWishReminder.class, JsonAdaptedWishReminder::toModelType,
+                    addressBook::addWishReminder);
+            break;
+        case "nextId":
+            if (parser.currentToken() != JsonToken.VALUE_NULL) {
+                addressBook.reserveIdsBelow(parser.getValueAsLong());
+            }
+            break;
+        case "journalSequence":
+            journalSequence = parser.currentToken() == JsonToken.VALUE_NULL ? 0 : parser.getValueAsLong();
+            break;
+        default:
+            parser.skipChildren();
+            break;
+        }
+    }
+
+    /**
+     * Parses each element of the array at {@code parser}, the value of {@code field}, as a {@code recordClass} and
+     * hands the model object it converts into to {@code sink}, in order.
+     */
+    private static <R, M> void readArray(JsonParser parser, String field, Class<R> recordClass,
+            ParallelRecordConverter.Conversion<R, M> conversion, Consumer<M> sink)
+            throws IOException, IllegalValueException {
+        ParallelRecordConverter<R, M> converter = new ParallelRecordConverter<>(conversion, sink);
+        for (boolean hasNext = startArray(parser, field); hasNext; hasNext = nextElement(parser)) {
+            converter.add(JsonUtil.readValue(parser, recordClass));
+        }
+        converter.finish();
+    }
+
+    /**
+     * Moves {@code parser}, which is at the value of {@code field}, to the first element of that array.
+     * A null array is treated as an empty one.
+     *
+     * @return false if the array has no elements.
+     */
+    private static boolean startArray(JsonParser parser, String field) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_AN_ARRAY, field));
+        }
+        return nextElement(parser);
+    }
+
+    /**
+     * Moves {@code parser} to the next element of the array it is in.
+     *
+     * @return false if the end of the array was reached instead.
+     */
+    private static boolean nextElement(JsonParser parser) throws IOException {
+        return parser.nextToken() != JsonToken.END_ARRAY;
+    }
+
+}
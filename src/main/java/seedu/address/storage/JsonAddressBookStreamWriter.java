@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Entry;
+import seedu.address.model.person.Expense;
+import seedu.address.model.person.ExpenseReminder;
+import seedu.address.model.person.Income;
+import seedu.address.model.person.Wish;
+import seedu.address.model.person.WishReminder;
+
+/**
+ * Writes an address book in the format of {@link JsonSerializableAddressBook} one record at a time.
+ *
+ * Each entry is adapted and written as soon as it is reached, straight into the file, so neither the
+ * {@code JsonAdapted*} lists nor the JSON text of the whole address book are built in memory while saving.
+ */
+class JsonAddressBookStreamWriter {
+
+    private final Path filePath;
+    private final boolean isCompact;
+
+    /**
+     * Creates a writer for {@code filePath}.
+     *
+     * @param isCompact whether to leave out the indentation and line breaks of pretty printing.
+     */
+    public JsonAddressBookStreamWriter(Path filePath, boolean isCompact) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Writes {@code addressBook} to the file, replacing its contents.
+     */
+    public void write(ReadOnlyAddressBook addressBook) throws IOException {
+        write(addressBook, null);
+    }
+
+    /**
+     * Writes {@code addressBook} to the file, replacing its contents, and records that it already contains every
+     * journal record up to and including {@code journalSequence}.
+     */
+    public void write(ReadOnlyAddressBook addressBook, Long journalSequence) throws IOException {
+        requireNonNull(addressBook);
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath, isCompact)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("expenses");
+            for (Expense expense : addressBook.getExpenseList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedExpense(expense));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("incomes");
+            for (Income income : addressBook.getIncomeList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedIncome(income));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("wishes");
+            for (Wish wish : addressBook.getWishList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedWish(wish));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("expenseReminders");
+            for (ExpenseReminder reminder : addressBook.getExpenseReminderList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedExpenseReminder(reminder));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("wishReminders");
+            for (WishReminder reminder : addressBook.getWishReminderList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedWishReminder(reminder));
+            }
+            generator.writeEndArray();
+
+            if (addressBook.getNextId() != Entry.NO_ID) {
+                generator.writeNumberField("nextId", addressBook.getNextId());
+            }
+            if (journalSequence != null) {
+                generator.writeNumberField("journalSequence", journalSequence);
+            }
+            generator.writeEndObject();
+        }
+    }
+
+}
@@ -1,21 +1,19 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Expense;
-import seedu.address.model.person.ExpenseReminder;
-import seedu.address.model.person.Income;
-import seedu.address.model.person.Wish;
-import seedu.address.model.person.WishReminder;
+import seedu.address.model.person.Entry;
 
 
 /**
@@ -31,13 +29,42 @@ class JsonSerializableAddressBook {
     private final List<JsonAdaptedWish> wishes = new ArrayList<>();
     private final List<JsonAdaptedExpenseReminder> expenseReminders = new ArrayList<>();
     private final List<JsonAdaptedWishReminder> wishReminders = new ArrayList<>();
+    /** The id that the next entry or reminder added will be given. */
+    private final long nextId;
+
+    /** Sequence number of the last journal record folded into this snapshot, if written by a journal. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long journalSequence;
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given entries.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("expenses") List<JsonAdaptedExpense> expenses) {
-        this.expenses.addAll(expenses);
+    public JsonSerializableAddressBook(@JsonProperty("expenses") List<JsonAdaptedExpense> expenses,
+                                       @JsonProperty("incomes") List<JsonAdaptedIncome> incomes,
+                                       @JsonProperty("wishes") List<JsonAdaptedWish> wishes,
+                                       @JsonProperty("expenseReminders")
+                                               List<JsonAdaptedExpenseReminder> expenseReminders,
+                                       @JsonProperty("wishReminders") List<JsonAdaptedWishReminder> wishReminders,
+                                       @JsonProperty("nextId") long nextId,
+                                       @JsonProperty("journalSequence") Long journalSequence) {
+        if (expenses != null) {
+            this.expenses.addAll(expenses);
+        }
+        if (incomes != null) {
+            this.incomes.addAll(incomes);
+        }
+        if (wishes != null) {
+            this.wishes.addAll(wishes);
+        }
+        if (expenseReminders != null) {
+            this.expenseReminders.addAll(expenseReminders);
+        }
+        if (wishReminders != null) {
+            this.wishReminders.addAll(wishReminders);
+        }
+        this.nextId = nextId;
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -47,6 +74,16 @@ class JsonSerializableAddressBook {
      *               {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, recording that it
+     * already contains every journal record up to and including {@code journalSequence}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, Long journalSequence) {
+        this.journalSequence = journalSequence;
+        nextId = source.getNextId();
         expenses.addAll(source.getExpenseList().stream().map(JsonAdaptedExpense::new).collect(Collectors.toList()));
         incomes.addAll(source.getIncomeList().stream().map(JsonAdaptedIncome::new).collect(Collectors.toList()));
         wishes.addAll(source.getWishList().stream().map(JsonAdaptedWish::new).collect(Collectors.toList()));
@@ -57,36 +94,36 @@ class JsonSerializableAddressBook {
                 source.getWishReminderList().stream().map(JsonAdaptedWishReminder::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the sequence number of the last journal record contained in this snapshot, or 0 if it was not
+     * written by a {@link JournaledAddressBookStorage}.
+     */
+    public long getJournalSequence() {
+        return journalSequence == null ? 0 : journalSequence;
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The records are converted in parallel and added in their original order.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedExpense jsonAdaptedExpense : expenses) {
-            Expense expense = jsonAdaptedExpense.toModelType();
-            addressBook.addExpense(expense);
-        }
-        for (JsonAdaptedIncome jsonAdaptedIncome : incomes) {
-            Income income = jsonAdaptedIncome.toModelType();
-            addressBook.addIncome(income);
+        if (nextId != Entry.NO_ID) {
+            addressBook.reserveIdsBelow(nextId);
         }
-        for (JsonAdaptedWish jsonAdaptedWish : wishes) {
-            Wish wish = jsonAdaptedWish.toModelType();
-            addressBook.addWish(wish);
+        try {
+            ParallelRecordConverter.convertAll(expenses, JsonAdaptedExpense::toModelType, addressBook::addExpense);
+            ParallelRecordConverter.convertAll(incomes, JsonAdaptedIncome::toModelType, addressBook::addIncome);
+            ParallelRecordConverter.convertAll(wishes, JsonAdaptedWish::toModelType, addressBook::addWish);
+            ParallelRecordConverter.convertAll(expenseReminders, JsonAdaptedExpenseReminder::toModelType,
+                    addressBook::addExpenseReminder);
+            ParallelRecordConverter.convertAll(wishReminders, JsonAdaptedWishReminder::toModelType,
+                    addressBook::addWishReminder);
+        } catch (IOException ioe) {
+            throw new IllegalStateException("Interrupted while converting the address book", ioe);
         }
-
-        for (JsonAdaptedExpenseReminder jsonAdaptedExpenseReminder : expenseReminders) {
-            ExpenseReminder reminder = jsonAdaptedExpenseReminder.toModelType();
-            addressBook.addExpenseReminder(reminder);
-        }
-
-        for (JsonAdaptedWishReminder JsonAdaptedWishReminder : wishReminders) {
-            WishReminder reminder = JsonAdaptedWishReminder.toModelType();
-            addressBook.addWishReminder(reminder);
-        }
-
         return addressBook;
     }
 
@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * The manifest of a {@link PartitionedAddressBookStorage}, listing the months that have a partition file.
+ */
+@JsonRootName(value = "partitionmanifest")
+class JsonSerializablePartitionManifest {
+
+    public static final String MESSAGE_INVALID_MONTH = "Partition month \"%s\" is not in the format yyyy-MM";
+
+    private final List<String> partitions = new ArrayList<>();
+
+    @JsonCreator
+    public JsonSerializablePartitionManifest(@JsonProperty("partitions") List<String> partitions) {
+        if (partitions != null) {
+            this.partitions.addAll(partitions);
+        }
+    }
+
+    /**
+     * Converts the months given into this class for Jackson use.
+     */
+    public JsonSerializablePartitionManifest(Collection<YearMonth> months) {
+        months.stream().sorted().map(YearMonth::toString).forEach(partitions::add);
+    }
+
+    /**
+     * Converts this manifest into the set of months that have a partition.
+     *
+     * @throws IllegalValueException if a month is not in the format yyyy-MM.
+     */
+    public SortedSet<YearMonth> toModelType() throws IllegalValueException {
+        SortedSet<YearMonth> months = new TreeSet<>();
+        for (String partition : partitions) {
+            try {
+                months.add(YearMonth.parse(partition));
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_MONTH, partition));
+            }
+        }
+        return months;
+    }
+
+}
@@ -0,0 +1,197 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts json records into model objects on a fork-join pool, one chunk of records per task, and hands the
+ * results on in the order the records were added.
+ *
+ * Only a few chunks are converted at a time, so the caller can keep parsing records while earlier chunks are being
+ * converted, without holding every record in memory.
+ *
+ * @param <R> type of the json records.
+ * @param <M> type of the model objects they are converted into.
+ */
+class ParallelRecordConverter<R, M> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    /**
+     * Converts one json record into its model object.
+     */
+    @FunctionalInterface
+    interface Conversion<R, M> {
+        M convert(R record) throws IllegalValueException;
+    }
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+    private final Conversion<R, M> conversion;
+    private final Consumer<? super M> sink;
+
+    private final Deque<ChunkConversion> chunksInFlight = new ArrayDeque<>();
+    private List<R> chunk;
+
+    public ParallelRecordConverter(Conversion<R, M> conversion, Consumer<? super M> sink) {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE, conversion, sink);
+    }
+
+    /**
+     * Creates a converter that runs on {@code pool} and hands each converted object to {@code sink}, on the thread
+     * that adds the records.
+     */
+    public ParallelRecordConverter(ForkJoinPool pool, int chunkSize, Conversion<R, M> conversion,
+                                   Consumer<? super M> sink) {
+        requireNonNull(pool);
+        requireNonNull(conversion);
+        requireNonNull(sink);
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = 2 * pool.getParallelism();
+        this.conversion = conversion;
+        this.sink = sink;
+        this.chunk = new ArrayList<>(chunkSize);
+    }
+
+    /**
+     * Converts every record in {@code records} and hands the results to {@code sink} in order.
+     *
+     * @throws IllegalValueException if any record violates the data constraints.
+     */
+    public static <R, M> void convertAll(List<R> records, Conversion<R, M> conversion, Consumer<? super M> sink)
+            throws IOException, IllegalValueException {
+        ParallelRecordConverter<R, M> converter = new ParallelRecordConverter<>(conversion, sink);
+        for (R record : records) {
+            converter.add(record);
+        }
+        converter.finish();
+    }
+
+    /**
+     * Queues {@code record} for conversion. Objects converted from earlier records may be handed to the sink
+     * before this returns.
+     *
+     * @throws IllegalValueException if an earlier record violated the data constraints.
+     */
+    public void add(R record) throws IOException, IllegalValueException {
+        chunk.add(record);
+        if (chunk.size() >= chunkSize) {
+            submitChunk();
+        }
+    }
+
+    /**
+     * Converts the records that are still queued and hands every remaining object to the sink.
+     *
+     * @throws IllegalValueException if any record violated the data constraints.
+     */
+    public void finish() throws IOException, IllegalValueException {
+        if (chunksInFlight.isEmpty()) {
+            // too few records to be worth handing to other threads
+            for (R record : chunk) {
+                sink.accept(conversion.convert(record));
+            }
+            chunk.clear();
+            return;
+        }
+
+        if (!chunk.isEmpty()) {
+            submitChunk();
+        }
+        while (!chunksInFlight.isEmpty()) {
+            handOnOldestChunk();
+        }
+    }
+
+    private void submitChunk() throws IOException, IllegalValueException {
+        List<R> records = chunk;
+        chunk = new ArrayList<>(chunkSize);
+        ChunkConversion chunkConversion = new ChunkConversion(records);
+        pool.execute(chunkConversion.task);
+        chunksInFlight.addLast(chunkConversion);
+        if (chunksInFlight.size() > maxChunksInFlight) {
+            handOnOldestChunk();
+        }
+    }
+
+    /**
+     * Waits for the oldest chunk in flight to be converted and hands its objects to the sink.
+     * If it failed, the other chunks are cancelled and its failure is rethrown.
+     */
+    private void handOnOldestChunk() throws IOException, IllegalValueException {
+        ChunkConversion oldest = chunksInFlight.removeFirst();
+        List<M> converted;
+        try {
+            converted = oldest.task.get();
+        } catch (InterruptedException e) {
+            cancelChunksInFlight();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while converting records");
+        } catch (ExecutionException e) {
+            cancelChunksInFlight();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+
+        if (oldest.failure != null) {
+            cancelChunksInFlight();
+            throw oldest.failure;
+        }
+        converted.forEach(sink);
+    }
+
+    private void cancelChunksInFlight() {
+        chunksInFlight.forEach(chunkConversion -> chunkConversion.task.cancel(true));
+        chunksInFlight.clear();
+    }
+
+    /**
+     * Converts one chunk of records, stopping at the first record that violates the data constraints.
+     * It runs on the pool as {@code task}.
+     */
+    private class ChunkConversion implements Callable<List<M>> {
+
+        private final List<R> records;
+        private final ForkJoinTask<List<M>> task = ForkJoinTask.adapt(this);
+        private IllegalValueException failure;
+
+        ChunkConversion(List<R> records) {
+            this.records = records;
+        }
+
+        @Override
+        public List<M> call() {
+            List<M> converted = new ArrayList<>(records.size());
+            try {
+                for (R record : records) {
+                    converted.add(conversion.convert(record));
+                }
+            } catch (IllegalValueException ive) {
+                failure = ive;
+            }
+            return converted;
+        }
+
+    }
+
+}
@@ -0,0 +1,427 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.HistoryLoader;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Entry;
+import seedu.address.model.person.Expense;
+import seedu.address.model.person.Income;
+import seedu.address.model.person.Wish;
+
+/**
+ * A class to access AddressBook data stored as one json file per month on the hard disk.
+ *
+ * Expenses, incomes and wishes are split by the month of their date into {@code <name>/yyyy-MM.json}, next to the
+ * address book file, and reminders are kept in {@code <name>/reminders.json} together with the next id to give
+ * out. The address book file itself is a small manifest listing the months that have a partition.
+ * Reading the address book only loads the most recent months; older ones are loaded through {@link HistoryLoader}
+ * once they are needed. Saving only rewrites the partitions whose contents changed.
+ */
+public class PartitionedAddressBookStorage implements AddressBookStorage, HistoryLoader {
+
+    public static final int DEFAULT_RECENT_MONTHS = 3;
+    public static final String REMINDERS_FILE_NAME = "reminders.json";
+    public static final String MESSAGE_MONTH_NOT_LOADED =
+            "Entries dated %s cannot be saved before the other entries of that month are loaded";
+
+    private static final String PARTITION_FILE_SUFFIX = ".json";
+    private static final AddressBookSnapshot EMPTY_PARTITION = new AddressBookSnapshot(new AddressBook());
+
+    private static final Logger logger = LogsCenter.getLogger(PartitionedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int recentMonths;
+    private final Clock clock;
+
+    /** Guards the manifest and partition files. */
+    private final Object fileLock = new Object();
+
+    /** Guards the outbox, which holds partitions that have been prepared for saving but not written yet. */
+    private final Object outboxLock = new Object();
+
+    // Only used by the thread that changes the address book.
+    /** Contents of every loaded, non-empty partition as of the last read or prepared save. */
+    private final Map<YearMonth, AddressBookSnapshot> loadedPartitions = new HashMap<>();
+    private final SortedSet<YearMonth> unloadedMonths = new TreeSet<>();
+    private AddressBookSnapshot loadedReminders = EMPTY_PARTITION;
+    /** Months listed by the manifest as of the last read or prepared save, or null if there is no manifest. */
+    private SortedSet<YearMonth> manifestMonths;
+
+    /** Partitions to write, where an empty partition means that its file is to be deleted. */
+    private final Map<YearMonth, AddressBookSnapshot> outboxPartitions = new HashMap<>();
+    private AddressBookSnapshot outboxReminders;
+    private SortedSet<YearMonth> outboxManifest;
+
+    public PartitionedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_RECENT_MONTHS, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a storage that reads the partitions of the last {@code recentMonths} months, counting the current
+     * month of {@code clock}, when the address book is read.
+     */
+    public PartitionedAddressBookStorage(Path filePath, int recentMonths, Clock clock) {
+        requireNonNull(filePath);
+        requireNonNull(clock);
+        this.filePath = filePath;
+        this.recentMonths = recentMonths;
+        this.clock = clock;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory that holds the partitions of the address book whose manifest is {@code filePath}.
+     */
+    public static Path getPartitionDirectory(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        return filePath.resolveSibling(extension > 0 ? fileName.substring(0, extension) : fileName + ".partitions");
+    }
+
+    private static Path getPartitionPath(Path filePath, YearMonth month) {
+        return getPartitionDirectory(filePath).resolve(month + PARTITION_FILE_SUFFIX);
+    }
+
+    private static Path getRemindersPath(Path filePath) {
+        return getPartitionDirectory(filePath).resolve(REMINDERS_FILE_NAME);
+    }
+
+    @Override
+    public Optional<HistoryLoader> getHistoryLoader() {
+        return Optional.of(this);
+    }
+
+    //// reading
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Only the address book at {@link #getAddressBookFilePath()} is loaded lazily; any other is read in full.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest or a partition is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        boolean isLazy = filePath.equals(this.filePath);
+
+        synchronized (fileLock) {
+            Optional<JsonSerializablePartitionManifest> manifest =
+                    JsonUtil.readJsonFile(filePath, JsonSerializablePartitionManifest.class);
+            if (!manifest.isPresent()) {
+                if (isLazy) {
+                    resetLoadedState(null);
+                }
+                return Optional.empty();
+            }
+
+            try {
+                SortedSet<YearMonth> months = manifest.get().toModelType();
+                YearMonth earliestRecentMonth = YearMonth.now(clock).minusMonths(recentMonths - 1);
+                Set<YearMonth> monthsToLoad = isLazy ? months.tailSet(earliestRecentMonth) : months;
+
+                AddressBook addressBook = new AddressBook();
+                AddressBookSnapshot reminders = readPartition(getRemindersPath(filePath));
+                addAll(reminders, addressBook);
+                Map<YearMonth, AddressBookSnapshot> partitions = readPartitions(filePath, monthsToLoad, addressBook);
+
+                if (isLazy) {
+                    resetLoadedState(months);
+                    loadedPartitions.putAll(partitions);
+                    unloadedMonths.addAll(months.headSet(earliestRecentMonth));
+                    loadedReminders = reminders;
+                    logger.fine("Loaded " + partitions.size() + " of " + months.size() + " partitions of " + filePath);
+                }
+                return Optional.of(addressBook);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + " or its partitions: " + ive.getMessage());
+                throw new DataConversionException(ive);
+            } catch (IOException ioe) {
+                logger.warning("Error reading from " + filePath + " or its partitions: " + ioe);
+                throw new DataConversionException(ioe);
+            }
+        }
+    }
+
+    @Override
+    public boolean isLoaded(YearMonth month) {
+        return !unloadedMonths.contains(month);
+    }
+
+    @Override
+    public boolean hasUnloadedEntries() {
+        return !unloadedMonths.isEmpty();
+    }
+
+    @Override
+    public ReadOnlyAddressBook loadUnloadedEntries() throws DataConversionException {
+        synchronized (fileLock) {
+            AddressBook history = new AddressBook();
+            try {
+                loadedPartitions.putAll(readPartitions(filePath, unloadedMonths, history));
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in the partitions of " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            } catch (IOException ioe) {
+                logger.warning("Error reading from the partitions of " + filePath + ": " + ioe);
+                throw new DataConversionException(ioe);
+            }
+            logger.fine("Loaded the remaining " + unloadedMonths.size() + " partitions of " + filePath);
+            unloadedMonths.clear();
+            return history;
+        }
+    }
+
+    @Override
+    public void discardUnloadedEntries() {
+        synchronized (outboxLock) {
+            unloadedMonths.forEach(month -> outboxPartitions.put(month, EMPTY_PARTITION));
+        }
+        unloadedMonths.clear();
+    }
+
+    /**
+     * Reads the partitions of {@code months} of the address book at {@code filePath}, adding their entries to
+     * {@code addressBook}.
+     *
+     * @return the contents of each partition that was not empty.
+     */
+    private static Map<YearMonth, AddressBookSnapshot> readPartitions(Path filePath, Set<YearMonth> months,
+            AddressBook addressBook) throws IOException, IllegalValueException {
+        Map<YearMonth, AddressBookSnapshot> partitions = new HashMap<>();
+        for (YearMonth month : months) {
+            AddressBookSnapshot partition = readPartition(getPartitionPath(filePath, month));
+            addAll(partition, addressBook);
+            if (!partition.isEmpty()) {
+                partitions.put(month, partition);
+            }
+        }
+        return partitions;
+    }
+
+    private static AddressBookSnapshot readPartition(Path partitionPath) throws IOException, IllegalValueException {
+        if (!FileUtil.isFileExists(partitionPath)) {
+            return EMPTY_PARTITION;
+        }
+        return new AddressBookSnapshot(new JsonAddressBookStreamReader(partitionPath).read());
+    }
+
+    private static void addAll(ReadOnlyAddressBook source, AddressBook target) {
+        target.reserveIdsBelow(source.getNextId());
+        source.getExpenseList().forEach(target::addExpense);
+        source.getIncomeList().forEach(target::addIncome);
+        source.getWishList().forEach(target::addWish);
+        source.getExpenseReminderList().forEach(target::addExpenseReminder);
+        source.getWishReminderList().forEach(target::addWishReminder);
+    }
+
+    private void resetLoadedState(SortedSet<YearMonth> manifestMonths) {
+        loadedPartitions.clear();
+        unloadedMonths.clear();
+        loadedReminders = EMPTY_PARTITION;
+        this.manifestMonths = manifestMonths;
+    }
+
+    //// writing
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        prepareSave(addressBook).write();
+    }
+
+    /**
+     * Moves the partitions of {@code addressBook} that changed since the last call into the outbox, from which the
+     * returned save writes them. Every save returned writes the whole outbox, so running any one of them is enough.
+     * The returned save fails if {@code addressBook} has entries in a month that has not been loaded, since writing
+     * them would overwrite the entries of that month that are only in storage.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        Map<YearMonth, AddressBookSnapshot> partitions = partition(addressBook);
+        for (YearMonth month : partitions.keySet()) {
+            if (!isLoaded(month)) {
+                return () -> {
+                    throw new IOException(String.format(MESSAGE_MONTH_NOT_LOADED, month));
+                };
+            }
+        }
+        AddressBookSnapshot reminders = AddressBookSnapshot.ofReminders(addressBook);
+
+        Set<YearMonth> changedMonths = new HashSet<>(loadedPartitions.keySet());
+        changedMonths.addAll(partitions.keySet());
+        changedMonths.removeIf(month -> partitions.getOrDefault(month, EMPTY_PARTITION)
+                .equals(loadedPartitions.getOrDefault(month, EMPTY_PARTITION)));
+        SortedSet<YearMonth> months = new TreeSet<>(unloadedMonths);
+        months.addAll(partitions.keySet());
+
+        synchronized (outboxLock) {
+            for (YearMonth month : changedMonths) {
+                outboxPartitions.put(month, partitions.getOrDefault(month, EMPTY_PARTITION));
+            }
+            if (!reminders.equals(loadedReminders)) {
+                outboxReminders = reminders;
+            }
+            if (!months.equals(manifestMonths)) {
+                outboxManifest = months;
+            }
+        }
+
+        loadedPartitions.clear();
+        loadedPartitions.putAll(partitions);
+        loadedReminders = reminders;
+        manifestMonths = months;
+        return this::writeOutbox;
+    }
+
+    /**
+     * Writes the partitions, reminders and manifest waiting in the outbox, removing them from it once written.
+     * The manifest is written after the partitions it lists, and files of emptied partitions are deleted after it,
+     * so that the manifest never lists a partition that is only partly written.
+     */
+    private void writeOutbox() throws IOException {
+        synchronized (fileLock) {
+            Map<YearMonth, AddressBookSnapshot> partitions;
+            AddressBookSnapshot reminders;
+            SortedSet<YearMonth> manifest;
+            synchronized (outboxLock) {
+                partitions = new TreeMap<>(outboxPartitions);
+                reminders = outboxReminders;
+                manifest = outboxManifest;
+            }
+
+            Files.createDirectories(getPartitionDirectory(filePath));
+            List<YearMonth> emptiedMonths = new ArrayList<>();
+            for (Map.Entry<YearMonth, AddressBookSnapshot> partition : partitions.entrySet()) {
+                if (partition.getValue().isEmpty()) {
+                    emptiedMonths.add(partition.getKey());
+                } else {
+                    writePartition(partition.getValue(), getPartitionPath(filePath, partition.getKey()));
+                }
+            }
+            if (reminders != null) {
+                writePartition(reminders, getRemindersPath(filePath));
+            }
+            if (manifest != null) {
+                writeManifest(manifest, filePath);
+            }
+            for (YearMonth month : emptiedMonths) {
+                Files.deleteIfExists(getPartitionPath(filePath, month));
+            }
+
+            synchronized (outboxLock) {
+                partitions.forEach(outboxPartitions::remove);
+                if (outboxReminders == reminders) {
+                    outboxReminders = null;
+                }
+                if (outboxManifest == manifest) {
+                    outboxManifest = null;
+                }
+            }
+            logger.fine("Wrote " + partitions.size() + " partitions of " + filePath);
+        }
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but writes every partition of {@code addressBook}
+     * to {@code filePath} when it is not {@link #getAddressBookFilePath()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        Map<YearMonth, AddressBookSnapshot> partitions = partition(addressBook);
+        Files.createDirectories(getPartitionDirectory(filePath));
+        for (Map.Entry<YearMonth, AddressBookSnapshot> partition : partitions.entrySet()) {
+            writePartition(partition.getValue(), getPartitionPath(filePath, partition.getKey()));
+        }
+        writePartition(AddressBookSnapshot.ofReminders(addressBook), getRemindersPath(filePath));
+        writeManifest(partitions.keySet(), filePath);
+    }
+
+    /**
+     * Splits the expenses, incomes and wishes of {@code addressBook} by the month of their date.
+     */
+    private static Map<YearMonth, AddressBookSnapshot> partition(ReadOnlyAddressBook addressBook) {
+        Map<YearMonth, List<Expense>> expenses = groupByMonth(addressBook.getExpenseList());
+        Map<YearMonth, List<Income>> incomes = groupByMonth(addressBook.getIncomeList());
+        Map<YearMonth, List<Wish>> wishes = groupByMonth(addressBook.getWishList());
+
+        Set<YearMonth> months = new HashSet<>(expenses.keySet());
+        months.addAll(incomes.keySet());
+        months.addAll(wishes.keySet());
+
+        Map<YearMonth, AddressBookSnapshot> partitions = new HashMap<>();
+        for (YearMonth month : months) {
+            partitions.put(month, AddressBookSnapshot.ofEntries(expenses.getOrDefault(month, List.of()),
+                    incomes.getOrDefault(month, List.of()), wishes.getOrDefault(month, List.of())));
+        }
+        return partitions;
+    }
+
+    private static <T extends Entry> Map<YearMonth, List<T>> groupByMonth(List<T> entries) {
+        Map<YearMonth, List<T>> groups = new HashMap<>();
+        Function<YearMonth, List<T>> newGroup = month -> new ArrayList<>();
+        for (T entry : entries) {
+            groups.computeIfAbsent(YearMonth.from(entry.getDate().getDate()), newGroup).add(entry);
+        }
+        return groups;
+    }
+
+    private static void writePartition(ReadOnlyAddressBook partition, Path partitionPath) throws IOException {
+        Path tempFile = FileUtil.createTempFileNextTo(partitionPath);
+        new JsonAddressBookStreamWriter(tempFile, true).write(partition);
+        FileUtil.moveIntoPlace(tempFile, partitionPath);
+    }
+
+    private static void writeManifest(Set<YearMonth> months, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = FileUtil.createTempFileNextTo(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializablePartitionManifest(months), tempFile);
+        FileUtil.moveIntoPlace(tempFile, filePath);
+    }
+
+}
@@ -0,0 +1,17 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * A save of the address book that has been prepared by {@link AddressBookStorage#prepareSave} but not yet written.
+ */
+@FunctionalInterface
+public interface PendingSave {
+
+    /**
+     * Writes the prepared save to the storage.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void write() throws IOException;
+
+}
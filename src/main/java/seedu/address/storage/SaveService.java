@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Decides when the address book is written to an {@code AddressBookStorage}, according to a {@link SaveDurability}.
+ *
+ * Each save request captures the address book on the calling thread through
+ * {@link AddressBookStorage#prepareSave}. Unless saves are synchronous, only the latest request is kept and it is
+ * written later, so a burst of commands results in a single write.
+ */
+public class SaveService {
+
+    private static final Logger logger = LogsCenter.getLogger(SaveService.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final SaveDurability durability;
+    private final long intervalMillis;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Guards {@code latestSave}, {@code isWriteScheduled} and {@code lastFailure}. */
+    private final Object requestLock = new Object();
+    /** Ensures that only one save is written at a time. */
+    private final Object writeLock = new Object();
+
+    private PendingSave latestSave;
+    private boolean isWriteScheduled = false;
+    private IOException lastFailure;
+
+    /**
+     * Creates a service that saves to {@code addressBookStorage}.
+     *
+     * @param intervalMillis how long a {@link SaveDurability#WRITE_BEHIND} save may be held back for.
+     */
+    public SaveService(AddressBookStorage addressBookStorage, SaveDurability durability, long intervalMillis) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(durability);
+        this.addressBookStorage = addressBookStorage;
+        this.durability = durability;
+        this.intervalMillis = intervalMillis;
+    }
+
+    public SaveDurability getDurability() {
+        return durability;
+    }
+
+    /**
+     * Requests that {@code addressBook} be saved.
+     * Must be called from the thread that changes {@code addressBook}.
+     *
+     * @throws IOException if the address book could not be saved, either now or by an earlier background write.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        PendingSave save = addressBookStorage.prepareSave(addressBook);
+
+        if (durability == SaveDurability.SYNC) {
+            synchronized (writeLock) {
+                save.write();
+            }
+            return;
+        }
+
+        synchronized (requestLock) {
+            latestSave = save;
+            if (durability == SaveDurability.WRITE_BEHIND && !isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.schedule(this::writeInBackground, intervalMillis, TimeUnit.MILLISECONDS);
+            }
+
+            if (lastFailure != null) {
+                IOException failure = lastFailure;
+                lastFailure = null;
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Writes any save that is still held back, waiting for one that is being written in the background to finish.
+     */
+    public void flush() throws IOException {
+        writeLatest();
+    }
+
+    /**
+     * Flushes held back saves and stops the background writer.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    private void writeInBackground() {
+        try {
+            writeLatest();
+        } catch (IOException ioe) {
+            logger.warning("Could not save data in the background: " + ioe);
+            synchronized (requestLock) {
+                lastFailure = ioe;
+            }
+        }
+    }
+
+    private void writeLatest() throws IOException {
+        synchronized (writeLock) {
+            PendingSave save;
+            synchronized (requestLock) {
+                save = latestSave;
+                latestSave = null;
+                isWriteScheduled = false;
+            }
+            if (save == null) {
+                return;
+            }
+
+            try {
+                save.write();
+            } catch (IOException ioe) {
+                // keep the save for the next attempt, unless a newer request has already replaced it
+                synchronized (requestLock) {
+                    if (latestSave == null) {
+                        latestSave = save;
+                    }
+                }
+                throw ioe;
+            }
+        }
+    }
+
+}
@@ -29,4 +29,18 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Requests that the given {@link ReadOnlyAddressBook} be saved to the storage. Depending on the save durability,
+     * it may only be written after this returns, in which case later requests may replace it.
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem writing to the file, now or in an earlier background write.
+     */
+    void requestSaveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Writes any address book save that was requested but not written yet.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushAddressBook() throws IOException;
+
 }
@@ -6,7 +6,9 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveDurability;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.HistoryLoader;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -19,12 +21,24 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private SaveService saveService;
 
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, SaveDurability.SYNC, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves the address book with the given durability.
+     *
+     * @param saveIntervalMillis how long a {@link SaveDurability#WRITE_BEHIND} save may be held back for.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          SaveDurability saveDurability, long saveIntervalMillis) {
         super();
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveService = new SaveService(addressBookStorage, saveDurability, saveIntervalMillis);
     }
 
     // ================ UserPrefs methods ==============================
@@ -74,4 +88,25 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+        return addressBookStorage.prepareSave(addressBook);
+    }
+
+    @Override
+    public Optional<HistoryLoader> getHistoryLoader() {
+        return addressBookStorage.getHistoryLoader();
+    }
+
+    @Override
+    public void requestSaveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveService.requestSave(addressBook);
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        logger.fine("Flushing pending saves to data file: " + getAddressBookFilePath());
+        saveService.flush();
+    }
+
 }
@@ -49,7 +49,7 @@ public class EntryCard extends UiPart<Region> {
         desc.setText(descWithType);
 
         time.setText("13:00");
-        amt.setText("$" + entry.getAmount().value);
+        amt.setText("$" + entry.getAmount());
 
         entry.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
@@ -0,0 +1,42 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.EntryBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindCommand} in fuzzy mode.
+ */
+public class FindCommandFuzzyTest {
+
+    @Test
+    public void execute_documentedExample_findsPartialAndSwappedWords() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addExpense(new EntryBuilder().withDesc("duck rice").buildExpense());
+        addressBook.addExpense(new EntryBuilder().withDesc("chicken rice").buildExpense());
+        addressBook.addExpense(new EntryBuilder().withDesc("mala").buildExpense());
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        // the example in FindCommand.MESSAGE_USAGE
+        CommandResult result = new FindCommandParser().parse(" " + FindCommand.FUZZY_FLAG + " chick rcie")
+                .execute(model);
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2) + "\n"
+                + String.format(FindCommand.MESSAGE_BEST_MATCH, "chicken rice"), result.getFeedbackToUser());
+        assertEquals(Set.of("duck rice", "chicken rice"), model.getFilteredEntryList().stream()
+                .map(entry -> entry.getDesc().fullDesc)
+                .collect(Collectors.toSet()));
+    }
+
+}
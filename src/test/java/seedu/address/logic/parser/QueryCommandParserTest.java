@@ -0,0 +1,88 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Amount;
+import seedu.address.model.person.EntryColumns.Type;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
+
+public class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private final QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_andBindsTighterThanOr() throws Exception {
+        QueryCommand expected = new QueryCommand(Query.anyOf(List.of(
+                Query.allOf(List.of(Query.withWord("chicken"), Query.withWord("rice"))),
+                Query.not(Query.withWord("mala")))));
+
+        assertEquals(expected, parser.parse("chicken rice or not mala"));
+        assertEquals(expected, parser.parse("Chicken AND rice OR NOT mala"));
+        assertEquals(expected, parser.parse("(chicken and rice) or (not mala)"));
+        assertEquals(expected.hashCode(), parser.parse("chicken rice or not mala").hashCode());
+        assertNotEquals(expected, parser.parse("chicken (rice or not mala)"));
+    }
+
+    @Test
+    public void parse_criteria() throws Exception {
+        assertEquals(new QueryCommand(Query.allOf(List.of(
+                Query.ofType(Type.EXPENSE),
+                Query.datedBetween(LocalDate.of(2019, 9, 1).toEpochDay(), LocalDate.MAX.toEpochDay()),
+                Query.amountBetween(Long.MIN_VALUE, 500),
+                Query.taggedWith(Tag.of("food"))))),
+                parser.parse("typ/expense d/2019-09-01.. amt/..5 tg/food"));
+        assertEquals(new QueryCommand(Query.amountBetween(250, 250)), parser.parse("amt/2.50"));
+    }
+
+    @Test
+    public void parse_unbalancedBrackets_throwsParseException() {
+        assertParseFailure("(chicken rice");
+        assertParseFailure("chicken rice)");
+        assertParseFailure("(chicken or rice))");
+        assertParseFailure("()");
+    }
+
+    @Test
+    public void parse_misplacedKeywords_throwsParseException() {
+        assertParseFailure("");
+        assertParseFailure("or rice");
+        assertParseFailure("chicken or");
+        assertParseFailure("chicken and and rice");
+        assertParseFailure("not");
+    }
+
+    @Test
+    public void parse_invalidCriteria_throwsParseException() {
+        assertParseFailure("d/..");
+        assertParseFailure("amt/..");
+        assertParseFailure("d/2019-13-01");
+        assertParseFailure("d/2019-09-01..2019-02-30");
+        assertParseFailure("amt/abc");
+        assertParseFailure("typ/loan");
+        assertParseFailure("tg/");
+    }
+
+    @Test
+    public void parse_amountTooLarge_throwsParseException() {
+        assertThrows(ParseException.class, Amount.MESSAGE_TOO_LARGE, () -> parser.parse("amt/..99999999999999999999"));
+    }
+
+    private void assertParseFailure(String userInput) {
+        assertThrows(ParseException.class, MESSAGE_INVALID_FORMAT, () -> parser.parse(userInput));
+    }
+
+}
@@ -0,0 +1,50 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+public class AmountTest {
+
+    @Test
+    public void constructor_decimal_roundedToNearestCent() {
+        assertEquals(Amount.ofCents(1235), new Amount(new BigDecimal("12.345")));
+        assertEquals(Amount.ofCents(560), new Amount(5.60));
+        assertEquals(Amount.ofCents(300000), new Amount(3000));
+        assertEquals("5.60", new Amount(new BigDecimal("5.6")).toString());
+        // 1.005 * 100 is just below 100.5 as a double, but 1.005 is the amount written
+        assertEquals(Amount.ofCents(101), new Amount(1.005));
+        assertEquals(new Amount(new BigDecimal("-2.345")), new Amount(-2.345));
+    }
+
+    @Test
+    public void constructor_outOfRange_throwsException() {
+        assertThrows(ArithmeticException.class, () -> new Amount(1e20));
+        assertThrows(ArithmeticException.class, () -> new Amount(new BigDecimal("1e20")));
+        assertThrows(NumberFormatException.class, () -> new Amount(Double.NaN));
+        assertThrows(NumberFormatException.class, () -> new Amount(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    public void add_manyCents_exact() {
+        Amount sum = Amount.ofCents(0);
+        for (int i = 0; i < 1000; i++) {
+            sum = sum.add(new Amount(0.10));
+        }
+        assertEquals(new Amount(100), sum);
+        assertEquals(new Amount(99.90), sum.subtract(new Amount(0.10)));
+        assertThrows(ArithmeticException.class, () -> Amount.ofCents(Long.MAX_VALUE).add(Amount.ofCents(1)));
+    }
+
+    @Test
+    public void compareTo_byCents() {
+        assertTrue(new Amount(1.99).compareTo(new Amount(2)) < 0);
+        assertEquals(0, new Amount(2).compareTo(Amount.ofCents(200)));
+        assertEquals(new Amount(2).hashCode(), Amount.ofCents(200).hashCode());
+    }
+
+}
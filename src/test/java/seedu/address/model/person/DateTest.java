@@ -0,0 +1,41 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class DateTest {
+
+    @Test
+    public void of_sameDay_sharedInstance() {
+        assertSame(Date.of("2019 09 09"), Date.of(LocalDate.of(2019, 9, 9)));
+        assertEquals(new Date("2019 9 9"), Date.of("2019 09 09"));
+        assertNotSame(Date.of("2200 01 01"), Date.of("2200 01 01"));
+        assertEquals(Date.of("2200 01 01"), Date.of("2200 01 01"));
+    }
+
+    @Test
+    public void toString_padded() {
+        assertEquals("2019 09 09", Date.of("2019 9 9").toString());
+        assertEquals(LocalDate.of(2019, 9, 9), Date.of("2019 09 09").getDate());
+    }
+
+    @Test
+    public void compareTo_byDay() {
+        assertTrue(Date.of("2019 09 30").compareTo(Date.of("2019 10 01")) < 0);
+        assertEquals(0, Date.of("2019 10 01").compareTo(new Date("2019 10 01")));
+    }
+
+    @Test
+    public void of_invalidDate_throws() {
+        assertThrows(NumberFormatException.class, () -> Date.of("stub time"));
+        assertThrows(NumberFormatException.class, () -> Date.of("2019 09"));
+    }
+
+}
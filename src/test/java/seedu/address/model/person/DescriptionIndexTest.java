@@ -0,0 +1,38 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.EntryBuilder;
+
+public class DescriptionIndexTest {
+
+    private final ObservableList<Entry> entries = FXCollections.observableArrayList();
+
+    @Test
+    public void lookups_afterListChanges_matchDescriptions() {
+        entries.add(new EntryBuilder().withId(1).withDesc("Chicken rice").buildExpense());
+        DescriptionIndex index = new DescriptionIndex(entries);
+        entries.add(new EntryBuilder().withId(2).withDesc("mala  hotpot").buildExpense());
+        entries.add(new EntryBuilder().withId(3).withDesc("chicken MALA").buildExpense());
+        entries.set(0, new EntryBuilder().withId(1).withDesc("duck rice").buildExpense());
+
+        assertArrayEquals(new long[] {3}, index.idsWithAnyWord(List.of("CHICKEN")));
+        assertArrayEquals(new long[] {1, 2, 3}, index.idsWithAnyWord(List.of("rice", "mala", "pizza")));
+        assertArrayEquals(new long[] {3}, index.idsWithEveryWord(List.of("mala", "chicken")));
+        assertArrayEquals(new long[0], index.idsWithEveryWord(List.of("mala", "pizza")));
+
+        entries.remove(2);
+        assertArrayEquals(new long[] {2}, index.idsWithAnyWord(List.of("mala", "chick")));
+        assertTrue(index.matchingAnyWord(List.of("duck")).test(entries.get(0)));
+        assertFalse(index.matchingAnyWord(List.of("duck")).test(entries.get(1)));
+    }
+
+}
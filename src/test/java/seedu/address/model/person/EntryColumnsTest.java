@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.EntryColumns.Criteria;
+import seedu.address.model.person.EntryColumns.Type;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.EntryBuilder;
+
+public class EntryColumnsTest {
+
+    private static final Tag FOOD = new Tag("food");
+    private static final Tag RENT = new Tag("rent");
+
+    private final ObservableList<Entry> entries = FXCollections.observableArrayList();
+
+    @Test
+    public void aggregates_afterListChanges_matchEntries() {
+        entries.add(new EntryBuilder().withTime("2019 09 09").withAmt(5.50).withTags("food").buildExpense());
+        EntryColumns columns = new EntryColumns(entries);
+        entries.add(new EntryBuilder().withTime("2019 09 30").withAmt(3000).buildIncome());
+        entries.add(0, new EntryBuilder().withTime("2019 10 01").withAmt(800).withTags("rent").buildExpense());
+        entries.add(new EntryBuilder().withTime("2019 10 02").withAmt(2.25).withTags("food", "rent").buildExpense());
+        entries.set(1, new EntryBuilder().withTime("2019 09 10").withAmt(6.75).withTags("food").buildExpense());
+        entries.remove(2);
+        entries.sort(Comparator.comparing(entry -> entry.getDate().getDate()));
+
+        Criteria expenses = Criteria.all().withTypes(Type.EXPENSE);
+        assertEquals(3, columns.count(expenses));
+        assertEquals(new Amount(809), columns.sum(expenses));
+        assertEquals(new Amount(9), columns.sum(expenses.withTag(FOOD)));
+        assertEquals(1, columns.count(expenses.withDates(LocalDate.of(2019, 9, 1), LocalDate.of(2019, 9, 30))));
+        assertEquals(0, columns.count(Criteria.all().withTypes(Type.INCOME)));
+
+        Map<YearMonth, Amount> byMonth = new LinkedHashMap<>();
+        byMonth.put(YearMonth.of(2019, 9), new Amount(6.75));
+        byMonth.put(YearMonth.of(2019, 10), new Amount(802.25));
+        assertEquals(byMonth, columns.sumByMonth(Criteria.all()));
+        assertEquals(Map.of(FOOD, new Amount(9), RENT, new Amount(802.25)), columns.sumByTag(expenses));
+        assertEquals(Map.of(Type.EXPENSE, new Amount(809)), columns.sumByType(Criteria.all()));
+    }
+
+    @Test
+    public void manyTags_bitmapsWidened() {
+        EntryColumns columns = new EntryColumns(entries);
+        List<Entry> added = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            added.add(new EntryBuilder().withAmt(1).withTags("tag" + i, "food").buildExpense());
+        }
+        entries.addAll(added);
+
+        assertEquals(new Amount(150), columns.sum(Criteria.all().withTag(FOOD)));
+        assertEquals(1, columns.count(Criteria.all().withTag(new Tag("tag149"))));
+        assertEquals(0, columns.count(Criteria.all().withTag(RENT)));
+    }
+
+}
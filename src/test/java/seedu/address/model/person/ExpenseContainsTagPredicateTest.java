@@ -0,0 +1,39 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class ExpenseContainsTagPredicateTest {
+
+    @Test
+    public void equals() {
+        ExpenseContainsTagPredicate meals = new ExpenseContainsTagPredicate(Set.of(Tag.of("food"), Tag.of("drink")));
+
+        // same object -> returns true
+        assertTrue(meals.equals(meals));
+
+        // same tags in any order -> returns true, with the same hash code
+        ExpenseContainsTagPredicate mealsCopy =
+                new ExpenseContainsTagPredicate(Set.of(Tag.of("drink"), Tag.of("food")));
+        assertTrue(meals.equals(mealsCopy));
+        assertEquals(meals.hashCode(), mealsCopy.hashCode());
+        assertTrue(Set.of(meals).contains(mealsCopy));
+
+        // different types -> returns false
+        assertFalse(meals.equals(1));
+
+        // null -> returns false
+        assertFalse(meals.equals(null));
+
+        // different tags -> returns false
+        assertFalse(meals.equals(new ExpenseContainsTagPredicate(Set.of(Tag.of("food")))));
+    }
+
+}
@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class ExpenseReminderListTest {
+
+    private final ExpenseReminderList reminders = new ExpenseReminderList();
+    private final List<String> events = new ArrayList<>();
+
+    private static ExpenseReminder reminder(String message, long quota) {
+        return new ExpenseReminder(message, quota,
+                new ExpenseTracker(new ExpenseContainsTagPredicate(Set.of(new Tag("food")))));
+    }
+
+    @Test
+    public void trackerAmountCrossesQuota_eventsPublishedAndDisplayUpdated() {
+        reminders.addStatusListener(reminder -> events.add(reminder.getMessage() + " " + reminder.getStatus()));
+        ExpenseReminder lunch = reminder("lunch", 10);
+        ExpenseReminder dinner = reminder("dinner", 20);
+        reminders.add(lunch);
+        reminders.add(dinner);
+
+        lunch.getTracker().setAmount(500);
+        dinner.getTracker().setAmount(2500);
+        lunch.getTracker().setAmount(1200);
+        // staying above the quota is not another activation
+        lunch.getTracker().setAmount(1500);
+        dinner.getTracker().setAmount(300);
+
+        assertEquals(List.of("dinner true", "lunch true", "dinner false"), events);
+        assertEquals(List.of(lunch), reminders.getDisplay());
+    }
+
+    @Test
+    public void remove_activeReminder_leavesDisplayAndStopsEvents() {
+        ExpenseReminder lunch = reminder("lunch", 0);
+        reminders.add(lunch);
+        assertEquals(List.of(lunch), reminders.getDisplay());
+
+        reminders.addStatusListener(reminder -> events.add(reminder.getMessage()));
+        reminders.remove(lunch);
+        lunch.getTracker().setAmount(-1);
+        assertTrue(reminders.getDisplay().isEmpty());
+        assertTrue(events.isEmpty());
+        // a removed reminder no longer follows its tracker
+        assertTrue(lunch.getStatus());
+
+        reminders.add(lunch);
+        assertTrue(reminders.getDisplay().isEmpty());
+    }
+
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.EntryBuilder;
+
+public class ExpenseTrackerManagerTest {
+
+    private static final Tag FOOD = new Tag("food");
+    private static final Tag DRINK = new Tag("drink");
+    private static final Tag RENT = new Tag("rent");
+
+    private final ObservableList<ExpenseTracker> trackers = FXCollections.observableArrayList();
+    private final ObservableList<Expense> expenses = FXCollections.observableArrayList();
+
+    @Test
+    public void expenseChanges_onlyMatchingTrackersAdjusted() {
+        new ExpenseTrackerManager(trackers, expenses);
+        ExpenseTracker meals = new ExpenseTracker(new ExpenseContainsTagPredicate(Set.of(FOOD, DRINK)));
+        ExpenseTracker housing = new ExpenseTracker(new ExpenseContainsTagPredicate(Set.of(RENT)));
+        trackers.add(meals);
+        trackers.add(housing);
+
+        // an expense with both watched tags counts once
+        expenses.add(new EntryBuilder().withAmt(10).withTags("food", "drink").buildExpense());
+        expenses.add(new EntryBuilder().withAmt(500).withTags("rent").buildExpense());
+        expenses.add(new EntryBuilder().withAmt(4).withTags("drink").buildExpense());
+        assertEquals(1400, meals.getAmount());
+        assertEquals(50000, housing.getAmount());
+
+        expenses.set(1, new EntryBuilder().withAmt(600).withTags("rent", "food").buildExpense());
+        expenses.remove(0);
+        assertEquals(60400, meals.getAmount());
+        assertEquals(60000, housing.getAmount());
+    }
+
+    @Test
+    public void centsOfExpenses_summedExactly() {
+        new ExpenseTrackerManager(trackers, expenses);
+        ExpenseTracker meals = new ExpenseTracker(new ExpenseContainsTagPredicate(Set.of(FOOD)));
+        trackers.add(meals);
+        for (int i = 0; i < 10; i++) {
+            expenses.add(new EntryBuilder().withAmt(0.10).withTags("food").buildExpense());
+        }
+        expenses.add(new EntryBuilder().withAmt(2.95).withTags("food").buildExpense());
+        assertEquals(395, meals.getAmount());
+    }
+
+    @Test
+    public void trackerAdded_amountFromExistingExpenses() {
+        expenses.add(new EntryBuilder().withAmt(3).withTags("food").buildExpense());
+        expenses.add(new EntryBuilder().withAmt(7).withTags("rent").buildExpense());
+        ExpenseTracker existing = new ExpenseTracker(new ExpenseContainsTagPredicate(Set.of(RENT)));
+        trackers.add(existing);
+        new ExpenseTrackerManager(trackers, expenses);
+        assertEquals(700, existing.getAmount());
+
+        ExpenseTracker food = new ExpenseTracker(new ExpenseContainsTagPredicate(Set.of(FOOD)));
+        trackers.setAll(food);
+        expenses.add(new EntryBuilder().withAmt(2).withTags("food", "rent").buildExpense());
+        assertEquals(500, food.getAmount());
+        assertEquals(700, existing.getAmount());
+    }
+
+}
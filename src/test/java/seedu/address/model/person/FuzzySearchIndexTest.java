@@ -0,0 +1,49 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.EntryBuilder;
+
+public class FuzzySearchIndexTest {
+
+    private final ObservableList<Entry> entries = FXCollections.observableArrayList();
+
+    @Test
+    public void rankedIds_exactBeforePrefixBeforeTypo() {
+        entries.add(new EntryBuilder().withId(1).withDesc("chicken rice").buildExpense());
+        FuzzySearchIndex index = new FuzzySearchIndex(entries);
+        entries.add(new EntryBuilder().withId(2).withDesc("chick peas").buildExpense());
+        entries.add(new EntryBuilder().withId(3).withDesc("chuck steak").buildExpense());
+        entries.add(new EntryBuilder().withId(4).withDesc("mala").withTags("spicy").buildExpense());
+
+        assertArrayEquals(new long[] {2, 1, 3}, index.rankedIdsMatchingAnyWord(List.of("chick")));
+        assertArrayEquals(new long[] {1}, index.rankedIdsMatchingAnyWord(List.of("RIZE")));
+        assertArrayEquals(new long[] {4}, index.rankedIdsMatchingAnyWord(List.of("spcy")));
+        assertArrayEquals(new long[] {1}, index.rankedIdsMatchingAnyWord(List.of("rcie")));
+        assertArrayEquals(new long[] {1, 2, 3}, index.rankedIdsMatchingAnyWord(List.of("chick", "rice")));
+
+        entries.remove(1);
+        entries.set(0, new EntryBuilder().withId(1).withDesc("duck rice").buildExpense());
+        assertArrayEquals(new long[] {3}, index.rankedIdsMatchingAnyWord(List.of("chick")));
+        assertArrayEquals(new long[] {1}, index.rankedIdsMatchingAnyWord(List.of("duk")));
+    }
+
+    @Test
+    public void isWithinDistance() {
+        assertTrue(FuzzySearchIndex.isWithinDistance("rcie", "rice", 1));
+        assertTrue(FuzzySearchIndex.isWithinDistance("chiken", "chicken", 1));
+        assertTrue(FuzzySearchIndex.isWithinDistance("chikcen", "chicken", 1));
+        assertFalse(FuzzySearchIndex.isWithinDistance("rcie", "rice", 0));
+        assertFalse(FuzzySearchIndex.isWithinDistance("ricee", "cire", 2));
+        assertFalse(FuzzySearchIndex.isWithinDistance("mala", "malatang", 2));
+    }
+
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PositionIndexTest {
+
+    private final List<String> list = new ArrayList<>();
+    private final PositionIndex<String> index = new PositionIndex<>(list);
+
+    private void append(String element) {
+        index.beforeAppend(element);
+        list.add(element);
+    }
+
+    private void remove(String element) {
+        int position = index.indexOf(element);
+        index.beforeRemove(position);
+        list.remove(position);
+    }
+
+    @Test
+    public void indexOf_afterRemovalsAndAppends_matchesList() {
+        for (String element : Arrays.asList("a", "b", "c", "d", "e")) {
+            append(element);
+        }
+        remove("b");
+        append("f");
+        remove("d");
+        index.beforeSet(0, "z");
+        list.set(0, "z");
+
+        assertFalse(index.contains("a"));
+        assertEquals(-1, index.indexOf("b"));
+        for (String element : list) {
+            assertTrue(index.contains(element));
+            assertEquals(list.indexOf(element), index.indexOf(element));
+        }
+    }
+
+    @Test
+    public void beforeSetAll_replacesPositions() {
+        append("a");
+        List<String> replacement = Arrays.asList("x", "y");
+        index.beforeSetAll(replacement);
+        list.clear();
+        list.addAll(replacement);
+
+        assertFalse(index.contains("a"));
+        assertEquals(1, index.indexOf("y"));
+    }
+
+}
@@ -0,0 +1,57 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.util.EntryComparator;
+import seedu.address.testutil.EntryBuilder;
+
+public class SortedEntryListTest {
+
+    private static final EntryComparator TIME_DESCENDING_THEN_AMOUNT = new EntryComparator(
+            List.of(new SortType("time"), new SortType("amount")),
+            List.of(new SortSequence("descending"), new SortSequence("ascending")));
+
+    private final ObservableList<Entry> entries = FXCollections.observableArrayList();
+
+    @Test
+    public void sourceChanges_keptInChainedOrder() {
+        Expense lunch = new EntryBuilder().withDesc("lunch").withTime("2019 09 09").withAmt(5).buildExpense();
+        Expense dinner = new EntryBuilder().withDesc("dinner").withTime("2019 09 09").withAmt(12).buildExpense();
+        Expense rent = new EntryBuilder().withDesc("rent").withTime("2019 10 01").withAmt(800).buildExpense();
+        Expense snack = new EntryBuilder().withDesc("snack").withTime("2019 09 09").withAmt(2).buildExpense();
+        entries.addAll(lunch, dinner);
+        SortedEntryList sorted = new SortedEntryList(entries, TIME_DESCENDING_THEN_AMOUNT);
+
+        entries.add(rent);
+        entries.add(0, snack);
+        assertEquals(List.of(rent, snack, lunch, dinner), sorted.asUnmodifiableObservableList());
+
+        entries.remove(lunch);
+        entries.set(entries.indexOf(rent),
+                new EntryBuilder().withDesc("rent").withTime("2019 09 01").withAmt(800).buildExpense());
+        assertEquals(List.of(snack, dinner, entries.get(entries.size() - 1)), sorted.asUnmodifiableObservableList());
+
+        sorted.setComparator(new EntryComparator(new SortType("description"), new SortSequence("ascending")));
+        assertEquals(List.of(dinner, entries.get(entries.size() - 1), snack), sorted.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sort_manyEntries_sortedInParallel() {
+        List<Entry> many = new ArrayList<>();
+        for (int i = 0; i < EntryComparator.PARALLEL_SORT_THRESHOLD * 2; i++) {
+            many.add(new EntryBuilder().withDesc("item" + (i % 97)).withAmt(i % 13).buildExpense());
+        }
+        List<Entry> expected = new ArrayList<>(many);
+        expected.sort(TIME_DESCENDING_THEN_AMOUNT);
+
+        assertEquals(expected, TIME_DESCENDING_THEN_AMOUNT.sort(many));
+    }
+
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class WishReminderSchedulerTest {
+
+    private static final LocalDate DUE_DATE = LocalDate.of(2019, 9, 9);
+    private static final Instant DUE_TIME = DUE_DATE.atStartOfDay(ZoneOffset.UTC).toInstant();
+
+    private final ObservableList<WishReminder> reminders = FXCollections.observableArrayList();
+
+    private static WishReminder reminder(String message, LocalDate date, int priority) {
+        WishReminder reminder = new WishReminder(message,
+                new Wish(new Description(message), date, new Amount(1), new HashSet<>()));
+        reminder.setPriority(priority);
+        return reminder;
+    }
+
+    /**
+     * Returns a clock that reaches {@code DUE_TIME} after {@code delay}.
+     */
+    private static Clock clockDueAfter(Duration delay) {
+        Clock utc = Clock.systemUTC();
+        return Clock.offset(utc, Duration.between(utc.instant(), DUE_TIME.minus(delay)));
+    }
+
+    @Test
+    public void reminderComesDue_activatedInPriorityOrder() throws Exception {
+        List<String> activated = new ArrayList<>();
+        CountDownLatch activationRun = new CountDownLatch(1);
+        WishReminder low = reminder("low", DUE_DATE, 1);
+        WishReminder high = reminder("high", DUE_DATE, 5);
+        WishReminder removed = reminder("removed", DUE_DATE, 9);
+        WishReminder later = reminder("later", DUE_DATE.plusDays(1), 0);
+
+        new WishReminderScheduler(reminders, clockDueAfter(Duration.ofMillis(200)), activation -> {
+            activation.run();
+            activationRun.countDown();
+        });
+        reminders.setAll(List.of(low, high, removed, later));
+        reminders.remove(removed);
+        for (WishReminder reminder : List.of(low, high)) {
+            reminder.addStatusListener(changed -> activated.add(changed.getMessage()));
+        }
+        assertFalse(low.getStatus());
+
+        assertTrue(activationRun.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("high", "low"), activated);
+        assertFalse(removed.getStatus());
+        assertFalse(later.getStatus());
+    }
+
+    @Test
+    public void reminderAlreadyDue_activatedImmediately() {
+        WishReminder overdue = reminder("overdue", DUE_DATE.minusDays(1), 0);
+        reminders.add(overdue);
+        new WishReminderScheduler(reminders, clockDueAfter(Duration.ofDays(1)), Runnable::run);
+        assertTrue(overdue.getStatus());
+
+        WishReminder today = reminder("today", DUE_DATE.minusDays(1), 0);
+        reminders.add(today);
+        assertTrue(today.getStatus());
+    }
+
+    @Test
+    public void reminderActivated_shownOnDisplayOfList() {
+        WishReminderList list = new WishReminderList();
+        new WishReminderScheduler(list.asUnmodifiableObservableList(), clockDueAfter(Duration.ofDays(1)),
+                Runnable::run);
+        WishReminder overdue = reminder("overdue", DUE_DATE.minusDays(1), 0);
+        list.add(reminder("later", DUE_DATE.plusDays(2), 0));
+        list.add(overdue);
+        assertEquals(List.of(overdue), list.getDisplay());
+
+        list.remove(overdue);
+        assertTrue(list.getDisplay().isEmpty());
+    }
+
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Amount;
+import seedu.address.model.person.Date;
+import seedu.address.model.person.Description;
+import seedu.address.model.person.DescriptionIndex;
+import seedu.address.model.person.Entry;
+import seedu.address.model.person.EntryAttributeIndex;
+import seedu.address.model.person.EntryColumns.Type;
+import seedu.address.model.person.Expense;
+import seedu.address.model.person.Income;
+import seedu.address.model.tag.Tag;
+
+public class QueryPlannerTest {
+
+    private static final Tag FOOD = Tag.of("food");
+
+    private final ObservableList<Entry> entries = FXCollections.observableArrayList();
+    private final QueryPlanner planner = new QueryPlanner(new DescriptionIndex(entries),
+            new EntryAttributeIndex(entries), id -> entries.stream().filter(entry -> entry.getId() == id).findFirst());
+
+    private static Entry entry(Entry entry, long id) {
+        entry.setId(id);
+        return entry;
+    }
+
+    private static long day(String date) {
+        return Date.of(date).getEpochDay();
+    }
+
+    private List<Long> idsMatching(Predicate<Entry> predicate) {
+        return entries.stream().filter(predicate).map(Entry::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    public void resolve_matchesSameEntriesAsQuery() {
+        entries.add(entry(new Expense(new Description("chicken rice"), Date.of("2019 09 01"), new Amount(4),
+                Set.of(FOOD)), 1));
+        entries.add(entry(new Expense(new Description("mala"), Date.of("2019 09 15"), new Amount(12),
+                Set.of(FOOD)), 2));
+        entries.add(entry(new Expense(new Description("bus"), Date.of("2019 09 15"), new Amount(2), Set.of()), 3));
+        entries.add(entry(new Income(new Description("pay"), Date.of("2019 09 30"), new Amount(900), Set.of()), 4));
+
+        Query september = Query.datedBetween(day("2019 09 10"), day("2019 09 30"));
+        List<Query> queries = List.of(
+                Query.allOf(List.of(september, Query.taggedWith(FOOD))),
+                Query.anyOf(List.of(Query.withWord("RICE"), Query.amountBetween(0, 200))),
+                Query.allOf(List.of(Query.ofType(Type.EXPENSE), Query.not(Query.withWord("bus")))),
+                Query.anyOf(List.of(Query.ofType(Type.INCOME), Query.taggedWith(Tag.of("transport")))));
+        List<List<Long>> expected = List.of(List.of(2L), List.of(1L, 3L), List.of(1L, 2L), List.of(4L));
+        for (int i = 0; i < queries.size(); i++) {
+            assertEquals(expected.get(i), idsMatching(queries.get(i)));
+            assertEquals(expected.get(i), idsMatching(planner.resolve(queries.get(i))));
+        }
+
+        entries.remove(1);
+        assertEquals(List.of(), idsMatching(planner.resolve(queries.get(0))));
+    }
+
+    @Test
+    public void allOf_narrowedDownByFewestCandidates() {
+        entries.add(entry(new Expense(new Description("mala"), Date.of("2019 09 15"), new Amount(12),
+                Set.of(FOOD)), 1));
+        entries.add(entry(new Expense(new Description("bus"), Date.of("2019 09 15"), new Amount(2), Set.of()), 2));
+
+        Query query = Query.allOf(List.of(Query.datedBetween(day("2019 09 01"), day("2019 09 30")),
+                Query.taggedWith(FOOD)));
+        Optional<QueryPlanner.Candidates> candidates = query.candidates(planner);
+        assertEquals(1, candidates.get().getEstimate());
+        assertEquals(Optional.empty(), Query.not(Query.taggedWith(FOOD)).candidates(planner));
+    }
+
+}
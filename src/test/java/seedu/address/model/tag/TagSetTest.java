@@ -0,0 +1,47 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_sameName_sameId() {
+        assertEquals(new Tag("food").getId(), Tag.of("food").getId());
+        assertSame(Tag.of("food"), Tag.withId(new Tag("food").getId()));
+    }
+
+    @Test
+    public void of_manyTags_behavesLikeSet() {
+        Set<Tag> expected = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(new Tag("many" + i));
+        }
+        TagSet tags = TagSet.of(expected);
+
+        assertEquals(expected, tags);
+        assertEquals(tags, expected);
+        assertEquals(expected.hashCode(), tags.hashCode());
+        assertEquals(expected, new HashSet<>(tags));
+        assertTrue(tags.contains(new Tag("many99")));
+        assertFalse(tags.contains(new Tag("few")));
+    }
+
+    @Test
+    public void intersects() {
+        TagSet food = TagSet.of(List.of(new Tag("food"), new Tag("lunch")));
+
+        assertTrue(food.intersects(TagSet.of(List.of(new Tag("lunch"), new Tag("rent")))));
+        assertFalse(food.intersects(TagSet.of(List.of(new Tag("rent")))));
+        assertFalse(food.intersects(TagSet.EMPTY));
+    }
+
+}
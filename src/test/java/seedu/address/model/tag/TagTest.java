@@ -1,5 +1,6 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -23,4 +24,14 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void of_manyNewNames_eachFoundById() {
+        // enough names to outgrow the table of ids more than once
+        for (int i = 0; i < 100; i++) {
+            Tag tag = Tag.of("interned" + i);
+            assertSame(tag, Tag.of("interned" + i));
+            assertSame(tag, Tag.withId(tag.getId()));
+        }
+    }
+
 }
@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ExpenseContainsTagPredicate;
+import seedu.address.model.person.ExpenseReminder;
+import seedu.address.model.person.ExpenseTracker;
+import seedu.address.model.person.WishReminder;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.EntryBuilder;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void constructor_remindersCopiedAndEntriesShared() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addExpense(new EntryBuilder().withDesc("lunch").withAmt(5).buildExpense());
+        ExpenseTracker tracker = new ExpenseTracker(new ExpenseContainsTagPredicate(Set.of(Tag.of("food"))));
+        ExpenseReminder reminder = new ExpenseReminder("too much food", 1, tracker);
+        addressBook.addExpenseReminder(reminder);
+        addressBook.addWishReminder(new WishReminder("someday", null));
+
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        ExpenseReminder copy = snapshot.getExpenseReminderList().get(0);
+        assertSame(addressBook.getExpenseList().get(0), snapshot.getExpenseList().get(0));
+        assertNotSame(reminder, copy);
+        assertEquals(reminder.getId(), copy.getId());
+        assertSame(copy.getTracker(), snapshot.getExpenseTrackerList().get(0));
+
+        // the status and amount of the reminder keep changing, but not those of the snapshot
+        tracker.setAmount(500);
+        assertEquals(500, reminder.getSum());
+        assertEquals(0, copy.getSum());
+        assertFalse(copy.getStatus());
+
+        // which are not saved, so snapshots taken before and after still hold the same data
+        assertEquals(snapshot, new AddressBookSnapshot(addressBook));
+        assertEquals(snapshot.hashCode(), new AddressBookSnapshot(addressBook).hashCode());
+        addressBook.addWishReminder(new WishReminder("one day", null));
+        assertNotEquals(snapshot, new AddressBookSnapshot(addressBook));
+    }
+
+}
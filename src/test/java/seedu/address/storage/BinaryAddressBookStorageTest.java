@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Amount;
+import seedu.address.model.person.Date;
+import seedu.address.model.person.Description;
+import seedu.address.model.person.Expense;
+import seedu.address.model.person.ExpenseContainsTagPredicate;
+import seedu.address.model.person.ExpenseReminder;
+import seedu.address.model.person.ExpenseTracker;
+import seedu.address.model.person.Income;
+import seedu.address.model.person.Wish;
+import seedu.address.model.person.WishReminder;
+import seedu.address.model.tag.Tag;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        FileUtil.writeToFile(filePath, "{ \"expenses\" : [ ] }");
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Set<Tag> food = new HashSet<>();
+        food.add(new Tag("food"));
+        AddressBook original = new AddressBook();
+        original.addExpense(new Expense(new Description("lunch"), new Date("2019 09 09"), new Amount(5.5), food));
+        original.addExpense(new Expense(new Description("lunch"), new Date("2019 09 10"), new Amount(6),
+                new HashSet<>()));
+        original.addIncome(new Income(new Description("salary"), new Date("2019 09 30"), new Amount(3000), food));
+        Wish phone = new Wish(new Description("phone"), new Date("2019 12 25"), new Amount(899.99), new HashSet<>());
+        original.addWish(phone);
+        original.addExpenseReminder(new ExpenseReminder("too much food", 50,
+                new ExpenseTracker(new ExpenseContainsTagPredicate(food))));
+        original.addWishReminder(new WishReminder("save up", phone));
+        original.addWishReminder(new WishReminder("someday", null));
+
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        assertEquals(2, readBack.getExpenseList().size());
+        Expense lunch = readBack.getExpenseList().get(0);
+        assertEquals("lunch", lunch.getDesc().fullDesc);
+        assertEquals(new Date("2019 09 09"), lunch.getDate());
+        assertEquals(new Amount(5.5), lunch.getAmount());
+        assertEquals(food, lunch.getTags());
+        assertEquals("salary", readBack.getIncomeList().get(0).getDesc().fullDesc);
+        assertEquals(new Amount(899.99), readBack.getWishList().get(0).getAmount());
+        assertEquals(50, readBack.getExpenseReminderList().get(0).getQuota());
+        assertEquals(food, readBack.getExpenseReminderList().get(0).getTracker().getPredicate().getTags());
+        assertSame(readBack.getWishList().get(0), readBack.getWishReminderList().get(0).getWish());
+        assertEquals("someday", readBack.getWishReminderList().get(1).getMessage());
+        assertNull(readBack.getWishReminderList().get(1).getWish());
+        assertEquals(phone.getId(), readBack.getWishList().get(0).getId());
+        assertEquals(original.getNextId(), readBack.getNextId());
+    }
+
+    @Test
+    public void saveAddressBook_overFileJustRead_replaced() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.addExpense(new Expense(new Description("lunch"), new Date("2019 09 09"), new Amount(5),
+                new HashSet<>()));
+        storage.saveAddressBook(original);
+
+        // reading the file must leave it free to be replaced
+        AddressBook loaded = new AddressBook(storage.readAddressBook().get());
+        loaded.addExpense(new Expense(new Description("dinner"), new Date("2019 09 09"), new Amount(12),
+                new HashSet<>()));
+        storage.saveAddressBook(loaded);
+
+        assertEquals(2, storage.readAddressBook().get().getExpenseList().size());
+    }
+
+}
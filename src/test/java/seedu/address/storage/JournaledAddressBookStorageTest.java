@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Expense;
+import seedu.address.model.person.WishReminder;
+import seedu.address.testutil.EntryBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JournaledAddressBookStorage(testFolder.resolve("ab.json")).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_mutations_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.addExpense(new EntryBuilder().withDesc("lunch").withAmt(5).buildExpense());
+        storage.saveAddressBook(original);
+        String snapshot = new String(Files.readAllBytes(filePath));
+
+        Expense dinner = new EntryBuilder().withDesc("dinner").withAmt(12).buildExpense();
+        original.addExpense(dinner);
+        original.addIncome(new EntryBuilder().withDesc("salary").withAmt(3000).buildIncome());
+        storage.saveAddressBook(original);
+        original.setExpense(dinner, new EntryBuilder().withDesc("supper").withAmt(8).buildExpense());
+        original.removeExpense(original.getExpenseList().get(0));
+        storage.saveAddressBook(original);
+
+        // the snapshot is left alone, and only the journal grows
+        assertEquals(snapshot, new String(Files.readAllBytes(filePath)));
+        assertEquals(4, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(1, readBack.getExpenseList().size());
+        assertEquals("supper", readBack.getExpenseList().get(0).getDesc().toString());
+        assertEquals(1, readBack.getIncomeList().size());
+        assertEquals("salary", readBack.getIncomeList().get(0).getDesc().toString());
+    }
+
+    @Test
+    public void saveAddressBook_reminderWithoutWish_readBackWithoutWish() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.addWishReminder(new WishReminder("someday", null));
+        storage.saveAddressBook(original);
+        original.addExpense(new EntryBuilder().withDesc("lunch").withAmt(5).buildExpense());
+        original.addWishReminder(new WishReminder("one day", null));
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(1, readBack.getExpenseList().size());
+        assertEquals(2, readBack.getWishReminderList().size());
+        assertEquals("one day", readBack.getWishReminderList().get(1).getMessage());
+        assertNull(readBack.getWishReminderList().get(0).getWish());
+        assertNull(readBack.getWishReminderList().get(1).getWish());
+    }
+
+    @Test
+    public void saveAddressBook_afterReadingSameFiles_snapshotReplacedAndJournalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage writer = new JournaledAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        writer.saveAddressBook(original);
+        original.addExpense(new EntryBuilder().withDesc("lunch").withAmt(5).buildExpense());
+        writer.saveAddressBook(original);
+
+        // reading both files must leave them free to be replaced and deleted
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        AddressBook loaded = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(loaded);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        loaded.addExpense(new EntryBuilder().withDesc("dinner").withAmt(12).buildExpense());
+        storage.saveAddressBook(loaded);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!new String(Files.readAllBytes(filePath)).contains("dinner")) {
+            assertTrue(System.currentTimeMillis() < deadline, "journal was not compacted");
+            Thread.sleep(10);
+        }
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(2, readBack.getExpenseList().size());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+        original.addExpense(new EntryBuilder().withDesc("lunch").withAmt(5).buildExpense());
+        storage.saveAddressBook(original);
+        Files.write(storage.getJournalFilePath(), "{\"seq\":2,\"op\":\"add\",\"li".getBytes(),
+                StandardOpenOption.APPEND);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(1, readBack.getExpenseList().size());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_journalUntouched() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_bulkChange_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+        original.addExpense(new EntryBuilder().withDesc("lunch").withAmt(5).buildExpense());
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        AddressBook replacement = new AddressBook();
+        for (int i = 0; i < 20; i++) {
+            replacement.addExpense(new EntryBuilder().withDesc("meal " + i).withAmt(i).buildExpense());
+        }
+        original.resetData(replacement);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(20, readBack.getExpenseList().size());
+    }
+
+}
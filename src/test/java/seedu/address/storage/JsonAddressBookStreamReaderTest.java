@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Amount;
+import seedu.address.model.person.Date;
+import seedu.address.model.person.Description;
+import seedu.address.model.person.Expense;
+import seedu.address.model.person.Income;
+import seedu.address.model.person.Wish;
+import seedu.address.model.person.WishReminder;
+
+public class JsonAddressBookStreamReaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_savedAddressBook_allListsRead() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addExpense(new Expense(new Description("lunch"), new Date("2019 09 09"), new Amount(5),
+                new HashSet<>()));
+        original.addIncome(new Income(new Description("salary"), new Date("2019 09 10"), new Amount(3000),
+                new HashSet<>()));
+        original.addWish(new Wish(new Description("phone"), new Date("2019 09 11"), new Amount(900),
+                new HashSet<>()));
+        Path filePath = testFolder.resolve("ab.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original, 42L), filePath);
+
+        JsonAddressBookStreamReader reader = new JsonAddressBookStreamReader(filePath);
+        AddressBook readBack = reader.read();
+        assertEquals(42, reader.getJournalSequence());
+        assertEquals(3, readBack.getEntryList().size());
+        assertEquals("lunch", readBack.getExpenseList().get(0).getDesc().toString());
+        assertEquals("salary", readBack.getIncomeList().get(0).getDesc().toString());
+        assertEquals("phone", readBack.getWishList().get(0).getDesc().toString());
+    }
+
+    @Test
+    public void read_compactStreamWrittenFile_allListsRead() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addExpense(new Expense(new Description("lunch"), new Date("2019 09 09"), new Amount(5),
+                new HashSet<>()));
+        original.addIncome(new Income(new Description("salary"), new Date("2019 09 10"), new Amount(3000),
+                new HashSet<>()));
+        Path filePath = testFolder.resolve("ab.json");
+        new JsonAddressBookStreamWriter(filePath, true).write(original, 7L);
+        assertEquals(1, Files.readAllLines(filePath).size());
+
+        JsonAddressBookStreamReader reader = new JsonAddressBookStreamReader(filePath);
+        AddressBook readBack = reader.read();
+        assertEquals(7, reader.getJournalSequence());
+        assertEquals("lunch", readBack.getExpenseList().get(0).getDesc().toString());
+        assertEquals("salary", readBack.getIncomeList().get(0).getDesc().toString());
+    }
+
+    @Test
+    public void read_removedEntries_idsAndNextIdKept() throws Exception {
+        AddressBook original = new AddressBook();
+        Expense lunch = new Expense(new Description("lunch"), new Date("2019 09 09"), new Amount(5), new HashSet<>());
+        original.addExpense(lunch);
+        original.removeExpense(lunch);
+        Wish phone = new Wish(new Description("phone"), new Date("2019 09 11"), new Amount(900), new HashSet<>());
+        original.addWish(phone);
+        original.addWishReminder(new WishReminder("save up", phone));
+        Path filePath = testFolder.resolve("ab.json");
+        new JsonAddressBookStreamWriter(filePath, true).write(original);
+
+        AddressBook readBack = new JsonAddressBookStreamReader(filePath).read();
+        Wish readPhone = readBack.getWishList().get(0);
+        assertEquals(phone.getId(), readPhone.getId());
+        assertSame(readPhone, readBack.getEntryById(phone.getId()).get());
+        assertSame(readPhone, readBack.getWishReminderList().get(0).getWish());
+        // the id of the removed expense is not given out again
+        assertEquals(original.getNextId(), readBack.getNextId());
+    }
+
+    @Test
+    public void read_reminderWithoutWish_readBackWithoutWish() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addWishReminder(new WishReminder("someday", null));
+        Path filePath = testFolder.resolve("ab.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        AddressBook readBack = new JsonAddressBookStreamReader(filePath).read();
+        assertEquals("someday", readBack.getWishReminderList().get(0).getMessage());
+        assertNull(readBack.getWishReminderList().get(0).getWish());
+
+        AddressBook converted = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType();
+        assertNull(converted.getWishReminderList().get(0).getWish());
+    }
+
+    @Test
+    public void read_notJsonObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        FileUtil.writeToFile(filePath, "[ ]");
+        assertThrows(IOException.class, () -> new JsonAddressBookStreamReader(filePath).read());
+    }
+
+}
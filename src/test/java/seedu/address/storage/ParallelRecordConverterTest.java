@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelRecordConverterTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @Test
+    public void finish_manyChunks_resultsInOriginalOrder() throws Exception {
+        List<Integer> converted = new ArrayList<>();
+        ParallelRecordConverter<String, Integer> converter =
+                new ParallelRecordConverter<>(pool, 3, Integer::valueOf, converted::add);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            converter.add(Integer.toString(i));
+            expected.add(i);
+        }
+        converter.finish();
+
+        assertEquals(expected, converted);
+    }
+
+    @Test
+    public void finish_invalidRecord_firstFailureThrown() throws Exception {
+        ParallelRecordConverter<String, Integer> converter = new ParallelRecordConverter<>(pool, 2, record -> {
+            if (record.startsWith("bad")) {
+                throw new IllegalValueException(record);
+            }
+            return record.length();
+        }, unused -> { });
+        for (String record : new String[] {"a", "b", "bad1", "c", "d", "bad2", "e"}) {
+            converter.add(record);
+        }
+
+        assertThrows(IllegalValueException.class, "bad1", converter::finish);
+    }
+
+}
@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ExpenseContainsTagPredicate;
+import seedu.address.model.person.ExpenseReminder;
+import seedu.address.model.person.ExpenseTracker;
+import seedu.address.testutil.EntryBuilder;
+
+public class PartitionedAddressBookStorageTest {
+
+    private static final Clock DECEMBER_2019 = Clock.fixed(Instant.parse("2019-12-15T10:00:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    public Path testFolder;
+
+    private PartitionedAddressBookStorage createStorage(Path filePath) {
+        return new PartitionedAddressBookStorage(filePath, 2, DECEMBER_2019);
+    }
+
+    private Path saveSampleAddressBook() throws IOException {
+        AddressBook original = new AddressBook();
+        original.addExpense(new EntryBuilder().withDesc("textbooks").withTime("2019 06 03").buildExpense());
+        original.addExpense(new EntryBuilder().withDesc("lunch").withTime("2019 11 20").buildExpense());
+        original.addExpense(new EntryBuilder().withDesc("gifts").withTime("2019 12 10").buildExpense());
+
+        Path filePath = testFolder.resolve("ab.json");
+        createStorage(filePath).saveAddressBook(original);
+        return filePath;
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(createStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_olderMonths_loadedOnDemand() throws Exception {
+        Path filePath = saveSampleAddressBook();
+        assertTrue(FileUtil.isFileExists(testFolder.resolve("ab").resolve("2019-06.json")));
+
+        PartitionedAddressBookStorage storage = createStorage(filePath);
+        assertEquals(2, storage.readAddressBook().get().getExpenseList().size());
+        assertTrue(storage.hasUnloadedEntries());
+        assertFalse(storage.isLoaded(YearMonth.of(2019, 6)));
+        assertTrue(storage.isLoaded(YearMonth.of(2019, 7)));
+
+        assertEquals("textbooks", storage.loadUnloadedEntries().getExpenseList().get(0).getDesc().fullDesc);
+        assertFalse(storage.hasUnloadedEntries());
+    }
+
+    @Test
+    public void saveAddressBook_recentChange_keepsUnloadedMonths() throws Exception {
+        Path filePath = saveSampleAddressBook();
+        PartitionedAddressBookStorage storage = createStorage(filePath);
+        AddressBook recent = new AddressBook(storage.readAddressBook().get());
+        recent.addExpense(new EntryBuilder().withDesc("dinner").withTime("2019 12 11").buildExpense());
+        storage.saveAddressBook(recent);
+
+        // reading another address book's manifest loads every month
+        assertEquals(4, createStorage(testFolder.resolve("other.json")).readAddressBook(filePath).get()
+                .getExpenseList().size());
+
+        recent.addExpense(new EntryBuilder().withDesc("stationery").withTime("2019 06 04").buildExpense());
+        assertThrows(IOException.class, () -> storage.saveAddressBook(recent));
+    }
+
+    @Test
+    public void modelManager_olderMonthsLoadedOnFirstTrackerRead_notCountedAsModification() throws Exception {
+        Path filePath = saveSampleAddressBook();
+        PartitionedAddressBookStorage storage = createStorage(filePath);
+        AddressBook recent = new AddressBook(storage.readAddressBook().get());
+        recent.addExpenseReminder(new ExpenseReminder("books", 50,
+                new ExpenseTracker(new ExpenseContainsTagPredicate(Set.of()))));
+
+        ModelManager model = new ModelManager(recent, new UserPrefs(), storage);
+        assertTrue(storage.hasUnloadedEntries());
+
+        long modificationCount = model.getAddressBookModificationCount();
+        model.getActiveExpenseReminders();
+        assertFalse(storage.hasUnloadedEntries());
+        assertEquals(3, model.getFilteredExpenses().size());
+        assertEquals(modificationCount, model.getAddressBookModificationCount());
+    }
+
+    @Test
+    public void discardUnloadedEntries_thenSave_partitionDeleted() throws Exception {
+        Path filePath = saveSampleAddressBook();
+        PartitionedAddressBookStorage storage = createStorage(filePath);
+        storage.readAddressBook();
+        storage.discardUnloadedEntries();
+        storage.saveAddressBook(new AddressBook());
+
+        assertFalse(FileUtil.isFileExists(testFolder.resolve("ab").resolve("2019-06.json")));
+        assertTrue(createStorage(filePath).readAddressBook().get().getExpenseList().isEmpty());
+    }
+
+}
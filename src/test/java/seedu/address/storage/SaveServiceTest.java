@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Amount;
+import seedu.address.model.person.Date;
+import seedu.address.model.person.Description;
+import seedu.address.model.person.Expense;
+
+public class SaveServiceTest {
+
+    private static final long LONG_INTERVAL = 60 * 60 * 1000;
+
+    @Test
+    public void requestSave_sync_writesEveryRequest() throws Exception {
+        CountingStorage storage = new CountingStorage();
+        SaveService saveService = new SaveService(storage, SaveDurability.SYNC, LONG_INTERVAL);
+        AddressBook addressBook = new AddressBook();
+        saveService.requestSave(addressBook);
+        saveService.requestSave(addressBook);
+        assertEquals(2, storage.writeCount);
+    }
+
+    @Test
+    public void requestSave_writeBehind_burstCoalescedIntoOneWrite() throws Exception {
+        CountingStorage storage = new CountingStorage();
+        SaveService saveService = new SaveService(storage, SaveDurability.WRITE_BEHIND, LONG_INTERVAL);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 10; i++) {
+            addressBook.addExpense(new Expense(new Description("meal"), new Date("2019 09 09"), new Amount(i),
+                    new HashSet<>()));
+            saveService.requestSave(addressBook);
+        }
+        assertEquals(0, storage.writeCount);
+
+        saveService.flush();
+        assertEquals(1, storage.writeCount);
+        assertEquals(10, storage.lastSaved.getExpenseList().size());
+    }
+
+    @Test
+    public void flush_onExit_writesOnlyOnce() throws Exception {
+        CountingStorage storage = new CountingStorage();
+        SaveService saveService = new SaveService(storage, SaveDurability.ON_EXIT, LONG_INTERVAL);
+        AddressBook addressBook = new AddressBook();
+        saveService.requestSave(addressBook);
+        saveService.requestSave(addressBook);
+        assertEquals(0, storage.writeCount);
+
+        saveService.close();
+        saveService.flush();
+        assertEquals(1, storage.writeCount);
+    }
+
+    /**
+     * An {@code AddressBookStorage} that only counts the saves written to it.
+     */
+    private static class CountingStorage implements AddressBookStorage {
+        private int writeCount = 0;
+        private ReadOnlyAddressBook lastSaved;
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+            writeCount++;
+            lastSaved = addressBook;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+
+}
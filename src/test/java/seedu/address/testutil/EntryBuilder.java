@@ -7,6 +7,9 @@ import seedu.address.model.person.Amount;
 import seedu.address.model.person.Date;
 import seedu.address.model.person.Description;
 import seedu.address.model.person.Entry;
+import seedu.address.model.person.Expense;
+import seedu.address.model.person.Income;
+import seedu.address.model.person.Wish;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.util.SampleDataUtil;
 
@@ -17,13 +20,14 @@ public class EntryBuilder {
 
     public static final String DEFAULT_DESCRIPTION = "Alice Pauline";
     public static final double DEFAULT_AMOUNT = 5.60;
-    public static final String DEFAULT_TIME = "2019-09-09";
+    public static final String DEFAULT_TIME = "2019 09 09";
 
 
     private Description desc;
     private Amount amt;
     private Date date;
     private Set<Tag> tags;
+    private long id = Entry.NO_ID;
 
     public EntryBuilder() {
         desc = new Description(DEFAULT_DESCRIPTION);
@@ -38,7 +42,9 @@ public class EntryBuilder {
     public EntryBuilder(Entry entryToCopy) {
         desc = entryToCopy.getDesc();
         amt = entryToCopy.getAmount();
+        date = entryToCopy.getDate();
         tags = new HashSet<>(entryToCopy.getTags());
+        id = entryToCopy.getId();
     }
 
     /**
@@ -73,8 +79,33 @@ public class EntryBuilder {
         return this;
     }
 
+    /**
+     * Sets the id of the {@code Entry} that we are building, as if it had been added to an address book.
+     */
+    public EntryBuilder withId(long id) {
+        this.id = id;
+        return this;
+    }
+
     public Entry build() {
-        return new Entry(desc, date, amt, tags);
+        return withBuiltId(new Entry(desc, date, amt, tags));
+    }
+
+    public Expense buildExpense() {
+        return withBuiltId(new Expense(desc, date, amt, tags));
+    }
+
+    public Income buildIncome() {
+        return withBuiltId(new Income(desc, date, amt, tags));
+    }
+
+    public Wish buildWish() {
+        return withBuiltId(new Wish(desc, date, amt, tags));
+    }
+
+    private <T extends Entry> T withBuiltId(T entry) {
+        entry.setId(id);
+        return entry;
     }
 
 }